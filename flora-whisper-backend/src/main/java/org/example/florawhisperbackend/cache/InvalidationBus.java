@@ -0,0 +1,176 @@
+package org.example.florawhisperbackend.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.example.florawhisperbackend.config.ReadRouting;
+import org.example.florawhisperbackend.dao.CacheInvalidationDao;
+import org.example.florawhisperbackend.entity.CacheInvalidation;
+import org.example.florawhisperbackend.entity.InvalidationScope;
+import org.example.florawhisperbackend.event.CatalogChangedEvent;
+import org.example.florawhisperbackend.event.CatalogChangedEvent.CatalogResource;
+import org.example.florawhisperbackend.event.UserChangedEvent;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the in-process caches of several instances coherent without a message broker. Catalog
+ * and user changes are written to {@code cache_invalidation} in the transaction that made them,
+ * and every instance tails that table by id and republishes the other instances' entries as
+ * remote events, which the caches handle like local ones.
+ * <p>
+ * Ids are assigned at insert but become visible at commit, so a lower id can show up after a
+ * higher one was read. The cursor only moves past entries older than the settle time; younger
+ * entries are applied as soon as they are seen and remembered until the cursor passes them.
+ * Changes reach other instances within about one poll interval. The settle time must cover the
+ * longest write transaction plus the clock skew between instances.
+ */
+@Component
+@RequiredArgsConstructor
+public class InvalidationBus implements InitializingBean {
+
+    private static final int PAGE_SIZE = 500;
+
+    private final CacheInvalidationDao cacheInvalidationDao;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.invalidation.settle-time:5s}")
+    private Duration settleTime;
+    @Value("${app.invalidation.retention:1h}")
+    private Duration retention;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    // Polls do database IO while holding this; a monitor would pin a virtual thread's carrier
+    private final ReentrantLock pollLock = new ReentrantLock();
+    private final Set<Long> appliedUnsettled = new HashSet<>();
+    private long cursor = -1;
+    private Instant lastPollAt;
+
+    private TransactionTemplate readTransaction;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (!event.remote()) {
+            append(InvalidationScope.of(event.resource()), event.id(), event.deleted());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (!event.remote()) {
+            append(InvalidationScope.USER, event.userId(), false);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.invalidation.poll-interval-ms:1000}")
+    public void poll() {
+        List<CacheInvalidation> received;
+        boolean missedEntries;
+        pollLock.lock();
+        try {
+            Instant now = Instant.now();
+            // Entries older than the retention may have been purged while this instance was not polling
+            missedEntries = lastPollAt != null && lastPollAt.isBefore(now.minus(retention).plus(settleTime));
+            // Tail the primary: a replica would add its lag to every poll
+            received = ReadRouting.fromPrimary(() -> readTransaction.execute(status -> readNew(now)));
+            lastPollAt = now;
+        } finally {
+            pollLock.unlock();
+        }
+
+        if (missedEntries) {
+            invalidateEverything();
+            return;
+        }
+        // Outside the read transaction, so the relayed events reach transactional listeners at once
+        received.forEach(this::relay);
+    }
+
+    @Scheduled(fixedDelayString = "${app.invalidation.cleanup-interval-ms:600000}")
+    @Transactional
+    public void purge() {
+        cacheInvalidationDao.deleteCreatedBefore(Instant.now().minus(retention));
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+    }
+
+    private void append(InvalidationScope scope, Long entityId, boolean deleted) {
+        cacheInvalidationDao.save(new CacheInvalidation(scope, entityId, deleted, instanceId, Instant.now()));
+    }
+
+    private List<CacheInvalidation> readNew(Instant now) {
+        Instant settledBefore = now.minus(settleTime);
+        if (cursor < 0) {
+            // Start after what had settled before this instance came up; its caches start empty
+            cursor = cacheInvalidationDao.findFirstByCreatedAtBeforeOrderByIdDesc(settledBefore)
+                    .map(CacheInvalidation::getId)
+                    .orElse(0L);
+        }
+
+        List<CacheInvalidation> received = new ArrayList<>();
+        long after = cursor;
+        long settledCursor = cursor;
+        boolean settled = true;
+        List<CacheInvalidation> page;
+        do {
+            page = cacheInvalidationDao.findByIdGreaterThanOrderByIdAsc(after, Limit.of(PAGE_SIZE));
+            for (CacheInvalidation entry : page) {
+                after = entry.getId();
+                settled = settled && entry.getCreatedAt().isBefore(settledBefore);
+                if (settled) {
+                    settledCursor = entry.getId();
+                }
+                if (appliedUnsettled.add(entry.getId()) && !instanceId.equals(entry.getOrigin())) {
+                    received.add(entry);
+                }
+            }
+        } while (page.size() == PAGE_SIZE);
+
+        cursor = settledCursor;
+        long passed = settledCursor;
+        appliedUnsettled.removeIf(id -> id <= passed);
+        return received;
+    }
+
+    private void relay(CacheInvalidation entry) {
+        try {
+            CatalogResource resource = entry.getScope().getCatalogResource();
+            if (resource != null) {
+                eventPublisher.publishEvent(new CatalogChangedEvent(resource, entry.getEntityId(), entry.isDeleted(), true));
+            } else {
+                eventPublisher.publishEvent(new UserChangedEvent(entry.getEntityId(), true));
+            }
+        } catch (RuntimeException e) {
+            System.err.println("Failed to apply cache invalidation " + entry.getId() + ": " + e.getMessage());
+        }
+    }
+
+    private void invalidateEverything() {
+        System.err.println("Invalidation feed was not polled within its retention; dropping all cached data");
+        for (CatalogResource resource : CatalogResource.values()) {
+            eventPublisher.publishEvent(new CatalogChangedEvent(resource, null, false, true));
+        }
+        eventPublisher.publishEvent(new UserChangedEvent(null, true));
+    }
+}
@@ -0,0 +1,211 @@
+package org.example.florawhisperbackend.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.florawhisperbackend.config.ReadRouting;
+import org.example.florawhisperbackend.dao.PlantDao;
+import org.example.florawhisperbackend.event.CatalogChangedEvent;
+import org.example.florawhisperbackend.event.CatalogChangedEvent.CatalogResource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caches catalog responses as ready-to-send JSON bytes, so repeated reads skip the DTO mappers
+ * and Jackson entirely.
+ * <p>
+ * Entries belong to a {@link CatalogResource} group that carries a version number. A
+ * {@link CatalogChangedEvent} bumps the version after commit, which makes every entry of the
+ * group stale at once. Changes to a single plant, which every checkout line makes to the stock,
+ * instead drop only the keys that can show it: the plant itself, the full list and its category's
+ * list. Both the version and the invalidation sequence are read before loading, so a load racing
+ * with a change is never stored. Memory is bounded by total bytes, evicting the least recently
+ * used entries first.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseBytesCache {
+
+    // Below this, gzip framing costs more than it saves
+    private static final int GZIP_MIN_BYTES = 1024;
+
+    private static final String PLANT_CATEGORY_KEYS = CatalogResource.PLANT + ":category:";
+
+    private final ObjectMapper objectMapper;
+    private final PlantDao plantDao;
+
+    @Value("${app.cache.response-bytes.max-bytes:33554432}")
+    private long maxBytes;
+
+    private final Map<CatalogResource, AtomicLong> versions = initialVersions();
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+
+    // Sequence number of the last per-key invalidation, by cache key or by key prefix ending in ':'
+    private final Map<String, Long> invalidatedAt = new HashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    // Category each plant was last seen in, so a move also drops the list it left
+    private final Map<Long, Long> plantCategories = new ConcurrentHashMap<>();
+
+    public record CachedResponse(long version, String etag, byte[] body, byte[] gzipBody) {
+
+        public int size() {
+            return body.length + (gzipBody != null ? gzipBody.length : 0);
+        }
+    }
+
+    public CachedResponse get(CatalogResource group, String key, Supplier<?> loader) {
+        String cacheKey = group + ":" + key;
+        long version = versions.get(group).get();
+        long sequence = invalidations.get();
+        synchronized (this) {
+            CachedResponse cached = entries.get(cacheKey);
+            if (cached != null && cached.version() == version) {
+                return cached;
+            }
+        }
+
+        // Filled from the primary: a stale replica read would stay cached under the new version
+        byte[] body = serialize(ReadRouting.fromPrimary(loader));
+        CachedResponse response = new CachedResponse(version,
+                "\"" + DigestUtils.md5DigestAsHex(body) + "\"",
+                body,
+                body.length >= GZIP_MIN_BYTES ? gzip(body) : null);
+        store(group, cacheKey, response, sequence);
+        return response;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.resource() == CatalogResource.PLANT && event.id() != null) {
+            invalidatePlant(event.id());
+            return;
+        }
+        bump(event.resource());
+        // Plant responses embed the category name
+        if (event.resource() == CatalogResource.CATEGORY) {
+            bump(CatalogResource.PLANT);
+        }
+    }
+
+    public synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+
+    private void invalidatePlant(long plantId) {
+        Long category = ReadRouting.fromPrimary(() -> plantDao.findCategoryIdById(plantId)).orElse(null);
+        Long previous = category != null ? plantCategories.put(plantId, category) : plantCategories.remove(plantId);
+
+        List<String> keys = new ArrayList<>();
+        keys.add(CatalogResource.PLANT + ":id:" + plantId);
+        keys.add(CatalogResource.PLANT + ":all");
+        if (previous == null) {
+            // Never seen since startup: whichever list it was cached in is unknown
+            keys.add(PLANT_CATEGORY_KEYS);
+        } else if (!previous.equals(category)) {
+            keys.add(PLANT_CATEGORY_KEYS + previous);
+        }
+        if (category != null) {
+            keys.add(PLANT_CATEGORY_KEYS + category);
+        }
+        invalidate(keys);
+    }
+
+    // Keys ending in ':' drop every entry under that prefix
+    private synchronized void invalidate(List<String> keys) {
+        long sequence = invalidations.incrementAndGet();
+        for (String key : keys) {
+            invalidatedAt.put(key, sequence);
+            if (!key.endsWith(":")) {
+                remove(entries.remove(key));
+                continue;
+            }
+            Iterator<Map.Entry<String, CachedResponse>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, CachedResponse> entry = iterator.next();
+                if (entry.getKey().startsWith(key)) {
+                    remove(entry.getValue());
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    private void remove(CachedResponse response) {
+        if (response != null) {
+            totalBytes -= response.size();
+        }
+    }
+
+    private synchronized void bump(CatalogResource group) {
+        versions.get(group).incrementAndGet();
+        // Loads begun before the bump are refused by their version from here on
+        invalidatedAt.keySet().removeIf(key -> key.startsWith(group + ":"));
+    }
+
+    private synchronized void store(CatalogResource group, String cacheKey, CachedResponse response, long sequence) {
+        if (response.version() != versions.get(group).get() || response.size() > maxBytes
+                || invalidatedAt.getOrDefault(cacheKey, 0L) > sequence
+                || invalidatedAt.getOrDefault(prefixOf(cacheKey), 0L) > sequence) {
+            return;
+        }
+        CachedResponse previous = entries.put(cacheKey, response);
+        if (previous != null) {
+            totalBytes -= previous.size();
+        }
+        totalBytes += response.size();
+
+        Iterator<CachedResponse> eldest = entries.values().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            totalBytes -= eldest.next().size();
+            eldest.remove();
+        }
+    }
+
+    private static String prefixOf(String cacheKey) {
+        return cacheKey.substring(0, cacheKey.lastIndexOf(':') + 1);
+    }
+
+    private static Map<CatalogResource, AtomicLong> initialVersions() {
+        Map<CatalogResource, AtomicLong> versions = new EnumMap<>(CatalogResource.class);
+        for (CatalogResource resource : CatalogResource.values()) {
+            versions.put(resource, new AtomicLong());
+        }
+        return versions;
+    }
+
+    private byte[] serialize(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize cached response", e);
+        }
+    }
+
+    private byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,53 @@
+package org.example.florawhisperbackend.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.florawhisperbackend.entity.Category;
+import org.example.florawhisperbackend.entity.FlowerMeaning;
+import org.example.florawhisperbackend.entity.Plant;
+import org.example.florawhisperbackend.event.CatalogChangedEvent;
+import org.hibernate.Cache;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts second-level cache entries for catalog changes made on other instances. Hibernate keeps
+ * this instance's cache current for its own writes, but never hears about anyone else's.
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheInvalidator {
+
+    private static final String FLOWER_MEANING_COLLECTIONS = "catalog.flower-meaning.collections";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    // Ahead of the other catalog listeners, which reload through this cache
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (!event.remote()) {
+            return;
+        }
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        Class<?> type = switch (event.resource()) {
+            case CATEGORY -> Category.class;
+            case PLANT -> Plant.class;
+            case FLOWER_MEANING -> FlowerMeaning.class;
+        };
+        if (event.id() == null) {
+            cache.evictEntityData(type);
+        } else {
+            cache.evictEntityData(type, event.id());
+        }
+        // A rename leaves the old natural id pointing at the row
+        if (type != Plant.class) {
+            cache.evictNaturalIdData(type);
+        }
+        if (type == FlowerMeaning.class) {
+            cache.evictRegion(FLOWER_MEANING_COLLECTIONS);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.florawhisperbackend.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Adaptive concurrency limit in front of checkout and payment. Each route has its own
+ * {@link GradientLimit} that follows observed latency. Requests over the limit get an immediate
+ * 503 with Retry-After, so when MySQL slows down the excess is shed here instead of piling up in
+ * the connection pool queue. Runs before the bulkheads, which would otherwise make the excess wait.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class AdaptiveConcurrencyFilter extends OncePerRequestFilter {
+
+    private final Map<String, GradientLimit> limits = new LinkedHashMap<>();
+    private final Map<String, Counter> rejections = new LinkedHashMap<>();
+    private final int retryAfter;
+
+    public AdaptiveConcurrencyFilter(AdaptiveLimitProperties properties, MeterRegistry registry) {
+        this.retryAfter = properties.retryAfter();
+        for (String route : new String[]{"checkout", "payment"}) {
+            GradientLimit limit = new GradientLimit(properties.initialLimit(), properties.minLimit(),
+                    properties.maxLimit(), properties.smoothing(), properties.tolerance());
+            limits.put(route, limit);
+            Gauge.builder("flora.concurrency.limit", limit, GradientLimit::getLimit)
+                    .tag("route", route)
+                    .register(registry);
+            Gauge.builder("flora.concurrency.in-flight", limit, GradientLimit::getInFlight)
+                    .tag("route", route)
+                    .register(registry);
+            rejections.put(route, Counter.builder("flora.concurrency.rejected")
+                    .tag("route", route)
+                    .register(registry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        // The decoded, normalized path MVC routes on, so escaped or ;param variants share their route's limit
+        String route = route(request.getServletPath());
+        GradientLimit limit = route == null ? null : limits.get(route);
+        if (limit == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        int inFlightBefore = limit.getInFlight();
+        if (!limit.tryAcquire()) {
+            rejections.get(route).increment();
+            Rejections.reject(response, HttpStatus.SERVICE_UNAVAILABLE, retryAfter, "Too many concurrent requests, please retry");
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            chain.doFilter(request, response);
+            dropped = response.getStatus() >= 500;
+        } finally {
+            limit.release(System.nanoTime() - start, inFlightBefore, dropped);
+        }
+    }
+
+    private String route(String path) {
+        if (path.startsWith("/api/flora/checkout")) {
+            return "checkout";
+        }
+        if (path.startsWith("/api/payment/")) {
+            return "payment";
+        }
+        return null;
+    }
+}
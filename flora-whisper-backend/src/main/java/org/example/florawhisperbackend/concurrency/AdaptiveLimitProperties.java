@@ -0,0 +1,23 @@
+package org.example.florawhisperbackend.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param initialLimit concurrent requests allowed per route before any latency has been observed
+ * @param minLimit     floor the limit never drops below
+ * @param maxLimit     ceiling the limit never grows past
+ * @param smoothing    weight of each new estimate (0-1); lower reacts more slowly
+ * @param tolerance    how much slower than the baseline responses may get before the limit shrinks
+ * @param retryAfter   seconds sent in Retry-After on rejection
+ */
+@ConfigurationProperties("app.adaptive-limit")
+public record AdaptiveLimitProperties(
+        @DefaultValue("20") int initialLimit,
+        @DefaultValue("2") int minLimit,
+        @DefaultValue("200") int maxLimit,
+        @DefaultValue("0.2") double smoothing,
+        @DefaultValue("1.5") double tolerance,
+        @DefaultValue("1") int retryAfter
+) {
+}
@@ -0,0 +1,148 @@
+package org.example.florawhisperbackend.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps how many requests of each {@link Workload} run at once, so a burst of checkouts or a slow
+ * report cannot take every pooled connection away from catalog reads. With virtual threads a
+ * waiting request costs almost nothing, so the waiting happens here rather than inside Hikari,
+ * where every workload would queue together.
+ */
+@Component
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    private final Map<Workload, Semaphore> permits = new EnumMap<>(Workload.class);
+    private final Map<Workload, Counter> rejections = new EnumMap<>(Workload.class);
+    private final long maxWaitNanos;
+
+    public BulkheadFilter(BulkheadProperties properties, MeterRegistry registry,
+                          @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        this.maxWaitNanos = properties.maxWait().toNanos();
+        for (Workload workload : Workload.values()) {
+            int size = Math.max(1, (int) Math.round(poolSize * properties.shareOf(workload)));
+            Semaphore semaphore = new Semaphore(size, true);
+            permits.put(workload, semaphore);
+            Gauge.builder("flora.bulkhead.available", semaphore, Semaphore::availablePermits)
+                    .tag("workload", workload.name())
+                    .register(registry);
+            rejections.put(workload, Counter.builder("flora.bulkhead.rejected")
+                    .tag("workload", workload.name())
+                    .register(registry));
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Workload workload = classify(request);
+        if (workload == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        Semaphore semaphore = permits.get(workload);
+        if (!acquire(semaphore)) {
+            rejections.get(workload).increment();
+            Rejections.reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1, "Server is busy, please retry");
+            return;
+        }
+
+        boolean async = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                // Streamed responses (order export) keep using the database after this returns
+                request.getAsyncContext().addListener(new ReleasingListener(semaphore));
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                semaphore.release();
+            }
+        }
+    }
+
+    private boolean acquire(Semaphore semaphore) {
+        try {
+            return semaphore.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Workload classify(HttpServletRequest request) {
+        // The decoded, normalized path MVC routes on; %-escapes or ;params in the raw URI would slip a pool
+        String path = request.getServletPath();
+        if (path.startsWith("/api/flora/checkout") || path.startsWith("/api/payment/")) {
+            return Workload.CHECKOUT;
+        }
+        if (path.startsWith("/api/flora/reports/") || path.startsWith("/api/flora/orders/export")) {
+            return Workload.REPORTING;
+        }
+        if (HttpMethod.GET.matches(request.getMethod())
+                && (path.startsWith("/api/flora/categories")
+                || path.startsWith("/api/flora/plants")
+                || path.startsWith("/api/flora/flower-meanings")
+                || path.startsWith("/api/flora/changes"))) {
+            return Workload.CATALOG_READ;
+        }
+        return null;
+    }
+
+    private static final class ReleasingListener implements AsyncListener {
+
+        private final Semaphore semaphore;
+        private boolean released;
+
+        private ReleasingListener(Semaphore semaphore) {
+            this.semaphore = semaphore;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
+        // Timeout and error are followed by complete; release only once
+        private synchronized void release() {
+            if (!released) {
+                released = true;
+                semaphore.release();
+            }
+        }
+    }
+}
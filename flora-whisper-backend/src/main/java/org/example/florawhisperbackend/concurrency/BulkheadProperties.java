@@ -0,0 +1,32 @@
+package org.example.florawhisperbackend.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Bulkhead sizes as fractions of the Hikari pool. The shares may add up to more than 1; the point
+ * is that no single workload can hold every connection.
+ *
+ * @param catalogReadShare pool share for catalog reads (categories, plants, flower meanings)
+ * @param checkoutShare    pool share for checkout and payment
+ * @param reportingShare   pool share for admin reports and order export
+ * @param maxWait          how long a request waits for a permit before it is rejected with 503
+ */
+@ConfigurationProperties("app.bulkhead")
+public record BulkheadProperties(
+        @DefaultValue("0.6") double catalogReadShare,
+        @DefaultValue("0.5") double checkoutShare,
+        @DefaultValue("0.2") double reportingShare,
+        @DefaultValue("2s") Duration maxWait
+) {
+
+    public double shareOf(Workload workload) {
+        return switch (workload) {
+            case CATALOG_READ -> catalogReadShare;
+            case CHECKOUT -> checkoutShare;
+            case REPORTING -> reportingShare;
+        };
+    }
+}
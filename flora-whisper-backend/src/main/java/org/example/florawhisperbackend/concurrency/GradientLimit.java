@@ -0,0 +1,91 @@
+package org.example.florawhisperbackend.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adaptive concurrency limit in the style of a gradient limiter. A long-term average of response
+ * times stands in for the no-load latency. While recent samples stay close to it the limit grows
+ * by a small queue allowance; as latency rises the limit shrinks in proportion. Requests that
+ * fail with a server error count as drops and cut the limit multiplicatively.
+ */
+public class GradientLimit {
+
+    private static final int LONG_WINDOW = 600;
+    private static final double DROP_BACKOFF = 0.9;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+
+    private volatile double limit;
+    private double longRttNanos;
+    private long samples;
+
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit, double smoothing, double tolerance) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a permit taken by {@link #tryAcquire()} and feeds the outcome into the limit.
+     *
+     * @param rttNanos       how long the request took
+     * @param inFlightBefore requests in flight when this one started, to ignore app-limited samples
+     * @param dropped        whether the request failed in a way that signals overload
+     */
+    public void release(long rttNanos, int inFlightBefore, boolean dropped) {
+        inFlight.decrementAndGet();
+        update(rttNanos, inFlightBefore, dropped);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long rttNanos, int inFlightBefore, boolean dropped) {
+        double current = limit;
+        if (dropped) {
+            limit = Math.max(minLimit, current * DROP_BACKOFF);
+            return;
+        }
+
+        double shortRtt = rttNanos;
+        samples++;
+        longRttNanos = samples == 1 ? shortRtt : longRttNanos + (shortRtt - longRttNanos) / Math.min(samples, LONG_WINDOW);
+        // After a sustained slowdown recovers, pull the long-term baseline back down quickly
+        if (longRttNanos / shortRtt > 2) {
+            longRttNanos *= 0.95;
+        }
+        // Far below the limit, latency says nothing about how much more the backend can take
+        if (inFlightBefore < current / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / shortRtt));
+        double queueAllowance = Math.sqrt(current);
+        double target = current * gradient + queueAllowance;
+        double smoothed = current * (1 - smoothing) + target * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, smoothed));
+    }
+}
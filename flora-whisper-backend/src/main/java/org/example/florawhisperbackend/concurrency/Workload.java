@@ -0,0 +1,8 @@
+package org.example.florawhisperbackend.concurrency;
+
+// Request classes that get their own share of the connection pool
+public enum Workload {
+    CATALOG_READ,
+    CHECKOUT,
+    REPORTING
+}
@@ -0,0 +1,14 @@
+package org.example.florawhisperbackend.config;
+
+import org.example.florawhisperbackend.concurrency.AdaptiveLimitProperties;
+import org.example.florawhisperbackend.concurrency.BulkheadProperties;
+import org.example.florawhisperbackend.ratelimit.RateLimitProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+// With spring.threads.virtual.enabled=true, Tomcat requests, streamed (async) responses and
+// @Scheduled jobs all run on virtual threads; the bulkheads bound their share of the pool
+@Configuration
+@EnableConfigurationProperties({BulkheadProperties.class, AdaptiveLimitProperties.class, RateLimitProperties.class})
+public class ConcurrencyConfig {
+}
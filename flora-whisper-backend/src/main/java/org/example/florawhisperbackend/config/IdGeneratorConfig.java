@@ -0,0 +1,16 @@
+package org.example.florawhisperbackend.config;
+
+import org.example.florawhisperbackend.util.SnowflakeIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IdGeneratorConfig {
+
+    // Every running instance needs its own node id, or the ids they issue can collide
+    @Bean
+    public SnowflakeIdGenerator snowflakeIdGenerator(@Value("${app.id.node-id:0}") long nodeId) {
+        return new SnowflakeIdGenerator(nodeId);
+    }
+}
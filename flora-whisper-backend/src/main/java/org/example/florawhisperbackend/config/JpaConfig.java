@@ -0,0 +1,50 @@
+package org.example.florawhisperbackend.config;
+
+import org.example.florawhisperbackend.metrics.QueryBudgetProperties;
+import org.example.florawhisperbackend.metrics.QueryCountInspector;
+import org.example.florawhisperbackend.metrics.QueryTrackingIntegrator;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(QueryBudgetProperties.class)
+public class JpaConfig {
+
+    // Defaults only; any value set in application.properties takes precedence
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, "50");
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, "true");
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, "true");
+        };
+    }
+
+    // Second-level cache for the catalog and reference entities; regions are sized in ehcache.xml
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, "true");
+            properties.putIfAbsent(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.putIfAbsent("hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider");
+            // A plain resource name: Hibernate resolves it through the class loader, which has no classpath: scheme
+            properties.putIfAbsent("hibernate.javax.cache.uri", "ehcache.xml");
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryTrackingCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+            properties.put(JpaSettings.INTEGRATOR_PROVIDER,
+                    (IntegratorProvider) () -> List.of(new QueryTrackingIntegrator()));
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package org.example.florawhisperbackend.config;
+
+import java.util.function.Supplier;
+
+/**
+ * Forces read-only work onto the primary. Use it for reads whose result is kept after the
+ * request, such as cache fills and in-memory indexes refreshed after a commit: served from a
+ * lagging replica, they would keep a stale copy well past the replica catching up.
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY = new ThreadLocal<>();
+
+    private ReadRouting() {
+    }
+
+    public static <T> T fromPrimary(Supplier<T> work) {
+        Boolean previous = PRIMARY.get();
+        PRIMARY.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY.remove();
+            } else {
+                PRIMARY.set(previous);
+            }
+        }
+    }
+
+    static boolean isPrimaryRequired() {
+        return PRIMARY.get() != null;
+    }
+}
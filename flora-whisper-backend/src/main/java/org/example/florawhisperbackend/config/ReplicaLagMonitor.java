@@ -0,0 +1,54 @@
+package org.example.florawhisperbackend.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Polls the replica's replication delay. The replica is usable while it answers and is no more
+ * than max-lag behind. A database that is not replicating at all (an empty
+ * {@code SHOW REPLICA STATUS}) counts as current, so two independent local databases work for
+ * testing.
+ */
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replica;
+    private final long maxLagSeconds;
+    private volatile boolean usable = true;
+    private volatile long lagSeconds;
+
+    public ReplicaLagMonitor(DataSource replica, Duration maxLag, MeterRegistry registry) {
+        this.replica = new JdbcTemplate(replica);
+        this.maxLagSeconds = maxLag.toSeconds();
+        Gauge.builder("flora.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("flora.datasource.replica.usable", this, monitor -> monitor.usable ? 1 : 0)
+                .register(registry);
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.check-interval-ms:5000}")
+    public void check() {
+        try {
+            List<Long> lag = replica.query("SHOW REPLICA STATUS", (rs, row) -> {
+                long seconds = rs.getLong("Seconds_Behind_Source");
+                // NULL means the replication threads are stopped
+                return rs.wasNull() ? Long.MAX_VALUE : seconds;
+            });
+            lagSeconds = lag.isEmpty() ? 0 : lag.get(0);
+            usable = lagSeconds <= maxLagSeconds;
+        } catch (RuntimeException e) {
+            usable = false;
+            System.err.println("Replica check failed, reading from primary: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.florawhisperbackend.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+// Picks the replica while it is healthy and not bypassed through ReadRouting; only used for read-only work
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor monitor;
+
+    ReplicaRoutingDataSource(ReplicaLagMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return monitor.isReplicaUsable() && !ReadRouting.isPrimaryRequired() ? Target.REPLICA : Target.PRIMARY;
+    }
+}
@@ -1,20 +1,26 @@
 package org.example.florawhisperbackend.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.example.florawhisperbackend.dao.UserAvatarDao.AvatarInfo;
 import org.example.florawhisperbackend.dto.ChangePasswordRequest;
 import org.example.florawhisperbackend.dto.FloraDto.*;
 import org.example.florawhisperbackend.dto.LoginResponse;
 import org.example.florawhisperbackend.dto.UserProfileDto;
 import org.example.florawhisperbackend.entity.User;
 import org.example.florawhisperbackend.exception.NotFoundException;
+import org.example.florawhisperbackend.exception.TooManyRequestsException;
 import org.example.florawhisperbackend.service.AuthService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.security.Principal;
+import java.time.Duration;
 import java.util.Map;
 
 @RestController
@@ -38,6 +44,28 @@ public class AuthController {
         return ResponseEntity.ok(userProfile);
     }
 
+    @GetMapping("/user/{id}/avatar")
+    public ResponseEntity<StreamingResponseBody> getAvatar(
+            @PathVariable Long id,
+            @RequestParam(required = false) String v,
+            @RequestHeader HttpHeaders requestHeaders) {
+        AvatarInfo avatar = authService.getAvatar(id);
+        String etag = "\"" + avatar.sha256() + "\"";
+        // A versioned URL never changes content; an unversioned one must be revalidated
+        CacheControl cacheControl = AuthService.avatarVersion(avatar).equals(v)
+                ? CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable()
+                : CacheControl.noCache().cachePublic();
+        if (requestHeaders.getIfNoneMatch().contains(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(avatar.contentType()))
+                .contentLength(avatar.imageSize())
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .body(out -> authService.writeAvatar(avatar, out));
+    }
+
     @PutMapping(value = "/user/{id}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<?> updateUser(
             @PathVariable Long id,
@@ -53,6 +81,10 @@ public class AuthController {
         try {
             LoginResponse loginResponse = authService.login(req);
             return ResponseEntity.ok(loginResponse);
+        } catch (TooManyRequestsException e) {
+            return ResponseEntity.status(e.getStatusCode())
+                    .headers(e.getHeaders())
+                    .body(Map.of("error", e.getReason()));
         } catch (Exception e) {
             System.out.println("Login failed: " + e.getMessage());
             e.printStackTrace();
@@ -1,42 +1,65 @@
 package org.example.florawhisperbackend.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.example.florawhisperbackend.cache.ResponseBytesCache;
+import org.example.florawhisperbackend.cache.ResponseBytesCache.CachedResponse;
 import org.example.florawhisperbackend.dto.CheckoutResponseDto;
 import org.example.florawhisperbackend.dto.FloraDto.*;
 import org.example.florawhisperbackend.dto.PlantCreateDto;
 import org.example.florawhisperbackend.dto.PlantDto;
 import org.example.florawhisperbackend.entity.Color;
+import org.example.florawhisperbackend.entity.Season;
 import org.example.florawhisperbackend.entity.ShippingStatus;
+import org.example.florawhisperbackend.entity.TrendingWindow;
 import org.example.florawhisperbackend.entity.User;
+import org.example.florawhisperbackend.event.CatalogChangedEvent.CatalogResource;
+import org.example.florawhisperbackend.service.CatalogChangeLogService;
+import org.example.florawhisperbackend.service.CatalogImportService;
 import org.example.florawhisperbackend.service.FloraService;
+import org.example.florawhisperbackend.service.OrderExportService;
+import org.example.florawhisperbackend.service.OrderExportService.ExportFormat;
+import org.example.florawhisperbackend.service.OrderStatusStreamService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.security.Principal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/flora")
 public class FloraController {
     private final FloraService floraService;
+    private final CatalogImportService catalogImportService;
+    private final CatalogChangeLogService catalogChangeLogService;
+    private final OrderExportService orderExportService;
+    private final OrderStatusStreamService orderStatusStreamService;
+    private final ResponseBytesCache responseBytesCache;
 
     // CATEGORY
     record CategoryRequest(String categoryName) {}
 
     @GetMapping("/categories")
-    public List<CategoryDto> listAllCategories() {
-        return floraService.findAllCategories();
+    public ResponseEntity<byte[]> listAllCategories(@RequestHeader HttpHeaders headers) {
+        return cachedJson(headers, CatalogResource.CATEGORY, "all", floraService::findAllCategories);
     }
 
     @GetMapping("/categories/{id}")
-    public CategoryDto listCategoryById(@PathVariable("id") long id) {
-        return floraService.findCategoryById(id);
+    public ResponseEntity<byte[]> listCategoryById(@PathVariable("id") long id, @RequestHeader HttpHeaders headers) {
+        return cachedJson(headers, CatalogResource.CATEGORY, "id:" + id, () -> floraService.findCategoryById(id));
     }
 
     @PostMapping("/category")
@@ -51,13 +74,51 @@ public class FloraController {
 
     // PLANT
     @GetMapping("/plants")
-    public List<PlantDto> listAllPlants() {
-        return floraService.findAllPlants();
+    public ResponseEntity<byte[]> listAllPlants(@RequestHeader HttpHeaders headers) {
+        return cachedJson(headers, CatalogResource.PLANT, "all", floraService::findAllPlants);
     }
 
     @GetMapping("/plants/category/{id}")
-    public List<PlantDto> findAllPlantsByCategoryId(@PathVariable long id) {
-        return floraService.findPlantsByCategoryId(id);
+    public ResponseEntity<byte[]> findAllPlantsByCategoryId(@PathVariable long id, @RequestHeader HttpHeaders headers) {
+        return cachedJson(headers, CatalogResource.PLANT, "category:" + id, () -> floraService.findPlantsByCategoryId(id));
+    }
+
+    @GetMapping("/plants/trending")
+    public ResponseEntity<?> listTrendingPlants(
+            @RequestParam(defaultValue = "day") String window,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            TrendingWindow trendingWindow = TrendingWindow.valueOf(window.toUpperCase());
+            return ResponseEntity.ok(floraService.findTrendingPlants(trendingWindow, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                    Map.of("error", "Invalid window: " + window)
+            );
+        }
+    }
+
+    @GetMapping("/plants/gift-finder")
+    public ResponseEntity<?> findGiftSuggestions(
+            @RequestParam(required = false) String occasion,
+            @RequestParam(required = false) String season,
+            @RequestParam(required = false) String color,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            Season giftSeason = season != null ? Season.valueOf(season.toUpperCase()) : null;
+            Color giftColor = color != null ? Color.valueOf(color.toUpperCase()) : null;
+            return ResponseEntity.ok(floraService.findGiftSuggestions(occasion, giftSeason, giftColor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                    Map.of("error", "Invalid season or color")
+            );
+        }
+    }
+
+    @GetMapping("/plants/{id}/related")
+    public List<RelatedPlantDto> listRelatedPlants(
+            @PathVariable long id,
+            @RequestParam(defaultValue = "6") int limit) {
+        return floraService.findRelatedPlants(id, limit);
     }
 
     @DeleteMapping("/plants/{id}")
@@ -67,26 +128,41 @@ public class FloraController {
     }
 
     @GetMapping("/plants/{id}")
-    public ResponseEntity<PlantDto> getPlantById(@PathVariable long id) {
-        PlantDto plantDto = floraService.findPlantById(id);
-        return ResponseEntity.ok(plantDto);
+    public ResponseEntity<byte[]> getPlantById(@PathVariable long id, @RequestHeader HttpHeaders headers) {
+        return cachedJson(headers, CatalogResource.PLANT, "id:" + id, () -> floraService.findPlantById(id));
     }
 
     @PostMapping("/plants/plant")
     public ResponseEntity<String> createPlant(
-            @ModelAttribute PlantCreateDto plantCreateDto) throws IOException {
-        String message = floraService.createPlant(plantCreateDto);
+            @ModelAttribute PlantCreateDto plantCreateDto,
+            Principal principal) throws IOException {
+        String message = floraService.createPlant(plantCreateDto, nameOf(principal));
         return ResponseEntity.ok(message);
     }
 
     @PutMapping("/plants/plant/{id}")
     public ResponseEntity<String> updatePlant(
             @PathVariable Long id,
-            @ModelAttribute PlantCreateDto plantCreateDto) throws IOException {
-        String message = floraService.updatePlant(id, plantCreateDto);
+            @ModelAttribute PlantCreateDto plantCreateDto,
+            Principal principal) throws IOException {
+        String message = floraService.updatePlant(id, plantCreateDto, nameOf(principal));
         return ResponseEntity.ok(message);
     }
 
+    // Body is the raw CSV (with a header row) or NDJSON document, streamed rather than buffered
+    @PostMapping("/plants/import")
+    public ResponseEntity<?> importPlants(
+            @RequestParam(defaultValue = "ndjson") String format,
+            InputStream body) throws IOException {
+        try {
+            return ResponseEntity.ok(catalogImportService.importPlants(body, format));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                    Map.of("error", e.getMessage())
+            );
+        }
+    }
+
     @GetMapping("/plants/search")
     public ResponseEntity<?> searchPlants(
             @RequestParam Long categoryId,
@@ -110,13 +186,13 @@ public class FloraController {
     // FLOWER MEANING
 
     @GetMapping("/flower-meanings")
-    public List<FlowerMeaningResponseDto> listAllFlowerMeanings() {
-        return floraService.findAllFlowerMeanings();
+    public ResponseEntity<byte[]> listAllFlowerMeanings(@RequestHeader HttpHeaders headers) {
+        return cachedJson(headers, CatalogResource.FLOWER_MEANING, "all", floraService::findAllFlowerMeanings);
     }
 
     @GetMapping("/flower-meanings/{id}")
-    public FlowerMeaningResponseDto listFlowerMeaningById(@PathVariable long id) {
-        return floraService.findFlowerMeaningById(id);
+    public ResponseEntity<byte[]> listFlowerMeaningById(@PathVariable long id, @RequestHeader HttpHeaders headers) {
+        return cachedJson(headers, CatalogResource.FLOWER_MEANING, "id:" + id, () -> floraService.findFlowerMeaningById(id));
     }
 
     @PostMapping("/flower-meaning")
@@ -139,6 +215,16 @@ public class FloraController {
         return ResponseEntity.status(HttpStatus.NO_CONTENT).body(respString);
     }
 
+    // DELTA SYNC
+
+    // Changes after the given sequence number; clients pass back nextSince and repeat while hasMore
+    @GetMapping("/changes")
+    public CatalogChangesDto listCatalogChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "500") int limit) {
+        return catalogChangeLogService.changesSince(since, limit);
+    }
+
     // CHECKOUT
 
 
@@ -166,11 +252,52 @@ public class FloraController {
         return ResponseEntity.ok(history);
     }
 
+    @GetMapping(value = "/orders/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrderStatus(
+            Principal principal,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return orderStatusStreamService.subscribe(principal.getName(), lastEventId);
+    }
+
     @GetMapping
     public List<CheckoutResponseDto> getAllOrders() {
         return floraService.getAllOrders();
     }
 
+    @PutMapping("/orders/status")
+    public ResponseEntity<?> updateOrderStatuses(@RequestBody BulkStatusUpdateRequest request) {
+        try {
+            int updated = floraService.updateOrderStatuses(request.orderIds(), request.status());
+            int requested = request.orderIds() != null ? request.orderIds().size() : 0;
+            return ResponseEntity.ok(new BulkStatusUpdateResponse(requested, updated));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                    Map.of("error", e.getMessage())
+            );
+        }
+    }
+
+    @GetMapping("/orders/export")
+    public ResponseEntity<?> exportOrders(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        ExportFormat exportFormat;
+        try {
+            exportFormat = ExportFormat.from(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                    Map.of("error", e.getMessage())
+            );
+        }
+
+        StreamingResponseBody body = out -> orderExportService.exportOrders(from, to, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=orders." + exportFormat.getExtension())
+                .body(body);
+    }
+
     @PutMapping("/{orderId}/status/{newStatus}")
     public CheckoutResponseDto updateOrderStatus(
             @PathVariable Long orderId,
@@ -178,5 +305,28 @@ public class FloraController {
         return floraService.updateOrderStatus(orderId, newStatus);
     }
 
+    // Sends pre-serialized JSON from the response cache; gzip and 304s need no re-serialization
+    private ResponseEntity<byte[]> cachedJson(HttpHeaders requestHeaders, CatalogResource group, String key,
+                                              Supplier<?> loader) {
+        CachedResponse cached = responseBytesCache.get(group, key, loader);
+        if (requestHeaders.getIfNoneMatch().contains(cached.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(cached.etag()).build();
+        }
+
+        boolean gzip = cached.gzipBody() != null && requestHeaders.getOrEmpty(HttpHeaders.ACCEPT_ENCODING).stream()
+                .anyMatch(value -> value.contains("gzip"));
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(cached.etag())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(cached.gzipBody());
+        }
+        return builder.body(cached.body());
+    }
 
+    // Plant writes are reachable without a token, so there may be no principal
+    private static String nameOf(Principal principal) {
+        return principal != null ? principal.getName() : null;
+    }
 }
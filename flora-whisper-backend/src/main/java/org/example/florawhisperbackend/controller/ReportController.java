@@ -0,0 +1,62 @@
+package org.example.florawhisperbackend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.florawhisperbackend.service.CoPurchaseService;
+import org.example.florawhisperbackend.service.SalesRollupService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.function.Supplier;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/flora/reports")
+public class ReportController {
+    private final SalesRollupService salesRollupService;
+    private final CoPurchaseService coPurchaseService;
+
+    @GetMapping("/sales/daily")
+    public ResponseEntity<?> dailySales(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return withBadRequestOnInvalidRange(() -> salesRollupService.findDailySales(from, to));
+    }
+
+    @GetMapping("/sales/plants")
+    public ResponseEntity<?> plantSales(
+            @RequestParam(required = false) Long plantId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return withBadRequestOnInvalidRange(() -> salesRollupService.findPlantSales(plantId, from, to));
+    }
+
+    @GetMapping("/sales/categories")
+    public ResponseEntity<?> categorySales(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return withBadRequestOnInvalidRange(() -> salesRollupService.findCategorySales(from, to));
+    }
+
+    @PostMapping("/sales/rebuild")
+    public ResponseEntity<String> rebuildSalesRollups() {
+        return ResponseEntity.ok(salesRollupService.rebuild());
+    }
+
+    @PostMapping("/recommendations/rebuild")
+    public ResponseEntity<String> rebuildRecommendations() {
+        return ResponseEntity.ok(coPurchaseService.rebuild());
+    }
+
+    private ResponseEntity<?> withBadRequestOnInvalidRange(Supplier<?> query) {
+        try {
+            return ResponseEntity.ok(query.get());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                    Map.of("error", e.getMessage())
+            );
+        }
+    }
+}
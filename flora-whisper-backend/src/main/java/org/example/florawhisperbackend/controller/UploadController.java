@@ -0,0 +1,51 @@
+package org.example.florawhisperbackend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.florawhisperbackend.dto.FloraDto.UploadStatusDto;
+import org.example.florawhisperbackend.upload.ResumableUploadService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.security.Principal;
+
+// Resumable image uploads: create, PATCH raw chunks with Upload-Offset, GET to resume, then complete
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/uploads")
+public class UploadController {
+    private final ResumableUploadService resumableUploadService;
+
+    @PostMapping
+    public ResponseEntity<UploadStatusDto> createUpload(Principal principal) {
+        UploadStatusDto status = resumableUploadService.create(principal.getName());
+        return ResponseEntity.created(URI.create("/api/uploads/" + status.uploadId())).body(status);
+    }
+
+    @GetMapping("/{id}")
+    public UploadStatusDto getUpload(@PathVariable String id, Principal principal) {
+        return resumableUploadService.status(id, principal.getName());
+    }
+
+    @PatchMapping("/{id}")
+    public UploadStatusDto appendChunk(
+            @PathVariable String id,
+            @RequestHeader("Upload-Offset") long offset,
+            InputStream body,
+            Principal principal) {
+        return resumableUploadService.append(id, principal.getName(), offset, body);
+    }
+
+    @PostMapping("/{id}/complete")
+    public UploadStatusDto completeUpload(@PathVariable String id, Principal principal) {
+        return resumableUploadService.complete(id, principal.getName());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> cancelUpload(@PathVariable String id, Principal principal) {
+        resumableUploadService.cancel(id, principal.getName());
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+}
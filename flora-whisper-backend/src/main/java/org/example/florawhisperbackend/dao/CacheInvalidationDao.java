@@ -0,0 +1,22 @@
+package org.example.florawhisperbackend.dao;
+
+import org.example.florawhisperbackend.entity.CacheInvalidation;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface CacheInvalidationDao extends JpaRepository<CacheInvalidation, Long> {
+
+    List<CacheInvalidation> findByIdGreaterThanOrderByIdAsc(long after, Limit limit);
+
+    Optional<CacheInvalidation> findFirstByCreatedAtBeforeOrderByIdDesc(Instant before);
+
+    @Modifying
+    @Query("DELETE FROM CacheInvalidation c WHERE c.createdAt < :cutoff")
+    int deleteCreatedBefore(Instant cutoff);
+}
@@ -0,0 +1,34 @@
+package org.example.florawhisperbackend.dao;
+
+import org.example.florawhisperbackend.entity.CatalogChange;
+import org.example.florawhisperbackend.entity.CatalogChangeType;
+import org.example.florawhisperbackend.event.CatalogChangedEvent.CatalogResource;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface CatalogChangeDao extends JpaRepository<CatalogChange, Long> {
+
+    List<CatalogChange> findByIdGreaterThanOrderByIdAsc(long since, Limit limit);
+
+    @Query("SELECT MAX(c.id) FROM CatalogChange c WHERE c.resource = :resource AND c.type = :type")
+    Long findLatestIdByResourceAndType(CatalogResource resource, CatalogChangeType type);
+
+    // Entries older than the resource's latest RESYNC, or with a newer entry for the same row. The
+    // newer-entry check is a MAX lookup on idx_catalog_change_entity per scanned entry.
+    @Query("""
+            SELECT c.id FROM CatalogChange c
+            WHERE c.resource = :resource AND c.id > :after
+            AND (c.id < :latestResyncId
+                 OR c.id < (SELECT MAX(n.id) FROM CatalogChange n WHERE n.resource = c.resource AND n.entityId = c.entityId))
+            ORDER BY c.id
+            """)
+    List<Long> findSupersededIds(CatalogResource resource, long latestResyncId, long after, Limit limit);
+
+    @Modifying
+    @Query("DELETE FROM CatalogChange c WHERE c.id IN :ids")
+    int deleteByIdIn(List<Long> ids);
+}
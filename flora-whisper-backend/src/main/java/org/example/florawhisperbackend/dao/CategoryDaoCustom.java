@@ -0,0 +1,10 @@
+package org.example.florawhisperbackend.dao;
+
+import org.example.florawhisperbackend.entity.Category;
+
+import java.util.Optional;
+
+public interface CategoryDaoCustom {
+
+    Optional<Category> findByCategoryName(String categoryName);
+}
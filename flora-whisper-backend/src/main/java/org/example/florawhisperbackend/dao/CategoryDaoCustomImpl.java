@@ -0,0 +1,22 @@
+package org.example.florawhisperbackend.dao;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.example.florawhisperbackend.entity.Category;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+class CategoryDaoCustomImpl implements CategoryDaoCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Natural-id load: answered from the second-level cache when the name has been resolved before
+    @Override
+    public Optional<Category> findByCategoryName(String categoryName) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(Category.class).loadOptional(categoryName);
+    }
+}
@@ -1,12 +1,105 @@
 package org.example.florawhisperbackend.dao;
 
+import jakarta.persistence.QueryHint;
 import org.example.florawhisperbackend.entity.Checkout;
+import org.example.florawhisperbackend.entity.ShippingStatus;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface CheckoutDao extends JpaRepository<Checkout, Long> {
-    List<Checkout> findByCustomerIdOrderByOrderDateDesc(long id);
 
+    interface OrderStatusView {
+        Long getId();
+        String getUsername();
+        ShippingStatus getShippingStatus();
+        LocalDate getExpectedDeliveryDate();
+    }
+
+    @Query("""
+    SELECT c
+    FROM Checkout c
+    LEFT JOIN FETCH c.customer
+    LEFT JOIN FETCH c.lines
+    WHERE c.customer.id = :id
+    ORDER BY c.orderDate DESC
+""")
+    List<Checkout> findByCustomerIdOrderByOrderDateDesc(@Param("id") long id);
+
+    @Query("""
+    SELECT c
+    FROM Checkout c
+    LEFT JOIN FETCH c.customer
+    LEFT JOIN FETCH c.lines
+    ORDER BY c.orderDate DESC
+""")
     List<Checkout> findAllByOrderByOrderDateDesc();
+
+    // Scrolls orders for export; must be consumed inside a transaction and closed afterwards
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+    SELECT c
+    FROM Checkout c
+    LEFT JOIN FETCH c.customer
+    WHERE (:from IS NULL OR c.orderDate >= :from)
+    AND (:to IS NULL OR c.orderDate <= :to)
+    ORDER BY c.id
+""")
+    Stream<Checkout> streamByOrderDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("UPDATE Checkout c SET c.shippingStatus = :status WHERE c.id IN :ids")
+    int updateShippingStatus(@Param("ids") Collection<Long> ids, @Param("status") ShippingStatus status);
+
+    @Modifying
+    @Query("""
+    UPDATE Checkout c
+    SET c.shippingStatus = :status, c.expectedDeliveryDate = :expectedDeliveryDate
+    WHERE c.id IN :ids
+""")
+    int updateShippingStatusAndExpectedDeliveryDate(@Param("ids") Collection<Long> ids,
+                                                    @Param("status") ShippingStatus status,
+                                                    @Param("expectedDeliveryDate") LocalDate expectedDeliveryDate);
+
+    // Only moves orders still in the expected state, so concurrent manual updates win
+    @Modifying
+    @Query("UPDATE Checkout c SET c.shippingStatus = :to WHERE c.id IN :ids AND c.shippingStatus = :from")
+    int advanceShippingStatus(@Param("ids") Collection<Long> ids,
+                              @Param("from") ShippingStatus from,
+                              @Param("to") ShippingStatus to);
+
+    // Keyset scan: callers pass the last id of the previous page as afterId
+    @Query("""
+    SELECT c.id
+    FROM Checkout c
+    WHERE c.shippingStatus = :status
+    AND c.expectedDeliveryDate < :date
+    AND c.id > :afterId
+    ORDER BY c.id
+""")
+    List<Long> findIdsByShippingStatusDueBefore(@Param("status") ShippingStatus status,
+                                                @Param("date") LocalDate date,
+                                                @Param("afterId") long afterId,
+                                                Limit limit);
+
+    @Query("""
+    SELECT c.id AS id, cu.username AS username, c.shippingStatus AS shippingStatus,
+           c.expectedDeliveryDate AS expectedDeliveryDate
+    FROM Checkout c
+    JOIN c.customer cu
+    WHERE c.id IN :ids
+""")
+    List<OrderStatusView> findStatusViewsByIdIn(@Param("ids") Collection<Long> ids);
 }
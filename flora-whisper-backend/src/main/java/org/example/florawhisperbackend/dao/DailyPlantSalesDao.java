@@ -0,0 +1,61 @@
+package org.example.florawhisperbackend.dao;
+
+import jakarta.persistence.QueryHint;
+import org.example.florawhisperbackend.entity.DailyPlantSales;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyPlantSalesDao extends JpaRepository<DailyPlantSales, Long> {
+
+    interface CategorySalesView {
+        LocalDate getSalesDate();
+        Long getCategoryId();
+        Double getRevenue();
+        Long getUnits();
+    }
+
+    List<DailyPlantSales> findBySalesDateBetweenOrderBySalesDate(LocalDate from, LocalDate to);
+
+    List<DailyPlantSales> findByPlantIdAndSalesDateBetweenOrderBySalesDate(long plantId, LocalDate from, LocalDate to);
+
+    @Query("""
+    SELECT d.salesDate AS salesDate, d.categoryId AS categoryId, SUM(d.revenue) AS revenue, SUM(d.units) AS units
+    FROM DailyPlantSales d
+    WHERE d.salesDate BETWEEN :from AND :to
+    GROUP BY d.salesDate, d.categoryId
+    ORDER BY d.salesDate
+""")
+    List<CategorySalesView> sumByCategory(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Native writes name the table they touch; otherwise Hibernate evicts the whole second-level cache
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_plant_sales"))
+    @Query(value = """
+    INSERT INTO daily_plant_sales (sales_date, plant_id, category_id, revenue, units)
+    VALUES (:salesDate, :plantId, :categoryId, :revenue, :units)
+    ON DUPLICATE KEY UPDATE
+        revenue = revenue + VALUES(revenue),
+        units = units + VALUES(units)
+""", nativeQuery = true)
+    void addPlantSale(@Param("salesDate") LocalDate salesDate, @Param("plantId") long plantId,
+                      @Param("categoryId") Long categoryId, @Param("revenue") double revenue, @Param("units") long units);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_plant_sales"))
+    @Query(value = """
+    INSERT INTO daily_plant_sales (sales_date, plant_id, category_id, revenue, units)
+    SELECT c.order_date, l.plant_id, MAX(l.category_id), SUM(l.unit_price * l.quantity), SUM(l.quantity)
+    FROM checkout c
+    JOIN order_line l ON l.checkout_id = c.id
+    WHERE c.order_date IS NOT NULL
+    GROUP BY c.order_date, l.plant_id
+""", nativeQuery = true)
+    int rebuildFromCheckouts();
+}
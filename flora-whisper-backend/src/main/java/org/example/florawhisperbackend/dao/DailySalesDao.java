@@ -0,0 +1,42 @@
+package org.example.florawhisperbackend.dao;
+
+import jakarta.persistence.QueryHint;
+import org.example.florawhisperbackend.entity.DailySales;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailySalesDao extends JpaRepository<DailySales, Long> {
+
+    List<DailySales> findBySalesDateBetweenOrderBySalesDate(LocalDate from, LocalDate to);
+
+    // Native writes name the table they touch; otherwise Hibernate evicts the whole second-level cache
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_sales"))
+    @Query(value = """
+    INSERT INTO daily_sales (sales_date, revenue, units, order_count)
+    VALUES (:salesDate, :revenue, :units, 1)
+    ON DUPLICATE KEY UPDATE
+        revenue = revenue + VALUES(revenue),
+        units = units + VALUES(units),
+        order_count = order_count + 1
+""", nativeQuery = true)
+    void addOrder(@Param("salesDate") LocalDate salesDate, @Param("revenue") double revenue, @Param("units") long units);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_sales"))
+    @Query(value = """
+    INSERT INTO daily_sales (sales_date, revenue, units, order_count)
+    SELECT c.order_date, SUM(c.total_amount), SUM(c.total_items), COUNT(*)
+    FROM checkout c
+    WHERE c.order_date IS NOT NULL
+    GROUP BY c.order_date
+""", nativeQuery = true)
+    int rebuildFromCheckouts();
+}
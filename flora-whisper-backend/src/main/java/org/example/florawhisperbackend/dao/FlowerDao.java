@@ -1,12 +1,28 @@
 package org.example.florawhisperbackend.dao;
 
+import org.example.florawhisperbackend.entity.Color;
 import org.example.florawhisperbackend.entity.Flower;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface FlowerDao extends JpaRepository<Flower, Long> {
 
+    interface FlowerIndexView {
+        Long getId();
+        String getName();
+        double getPrice();
+        int getStock();
+        Color getColor();
+    }
+
+    // The gift finder index, without hydrating the image
+    @Query("SELECT f.id AS id, f.name AS name, f.price AS price, f.stock AS stock, f.color AS color FROM Flower f")
+    List<FlowerIndexView> findIndexViews();
+
+    @Query("SELECT f.id AS id, f.name AS name, f.price AS price, f.stock AS stock, f.color AS color FROM Flower f WHERE f.id = :id")
+    Optional<FlowerIndexView> findIndexViewById(@Param("id") long id);
 }
@@ -0,0 +1,10 @@
+package org.example.florawhisperbackend.dao;
+
+import org.example.florawhisperbackend.entity.FlowerMeaning;
+
+import java.util.Optional;
+
+public interface FlowerMeaningDaoCustom {
+
+    Optional<FlowerMeaning> findByName(String name);
+}
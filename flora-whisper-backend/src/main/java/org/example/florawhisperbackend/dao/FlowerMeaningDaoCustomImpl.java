@@ -0,0 +1,21 @@
+package org.example.florawhisperbackend.dao;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.example.florawhisperbackend.entity.FlowerMeaning;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+class FlowerMeaningDaoCustomImpl implements FlowerMeaningDaoCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<FlowerMeaning> findByName(String name) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(FlowerMeaning.class).loadOptional(name);
+    }
+}
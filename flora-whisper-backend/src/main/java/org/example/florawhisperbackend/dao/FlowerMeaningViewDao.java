@@ -0,0 +1,15 @@
+package org.example.florawhisperbackend.dao;
+
+import org.example.florawhisperbackend.entity.FlowerMeaningView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface FlowerMeaningViewDao extends JpaRepository<FlowerMeaningView, Long> {
+
+    List<FlowerMeaningView> findAllByOrderByIdAsc();
+
+    @Query("SELECT f.id FROM FlowerMeaning f WHERE f.id NOT IN (SELECT v.id FROM FlowerMeaningView v)")
+    List<Long> findMissingFlowerMeaningIds();
+}
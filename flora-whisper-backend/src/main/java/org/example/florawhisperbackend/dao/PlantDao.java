@@ -6,11 +6,17 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface PlantDao extends JpaRepository<Plant, Long>{
 
+    interface PlantKeyView {
+        Long getCategoryId();
+        String getName();
+    }
+
     List<Plant> findByCategoryId(long categoryId);
 
     @Query("SELECT p FROM Plant p WHERE p.category.categoryName = :categoryName AND p.name = :name")
@@ -31,4 +37,11 @@ public interface PlantDao extends JpaRepository<Plant, Long>{
     // Search Indoor Plants by name (category ID = 2)
     @Query("SELECT p FROM Plant p WHERE TYPE(p) = IndoorPlant AND p.category.id = 2 AND LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%'))")
     List<Plant> findIndoorPlantsByNameContaining(@Param("name") String name);
+
+    // Duplicate check for bulk import: one query per chunk instead of one per plant
+    @Query("SELECT p.category.id AS categoryId, p.name AS name FROM Plant p WHERE p.name IN :names")
+    List<PlantKeyView> findKeysByNameIn(@Param("names") Collection<String> names);
+
+    @Query("SELECT p.category.id FROM Plant p WHERE p.id = :id")
+    Optional<Long> findCategoryIdById(@Param("id") long id);
 }
@@ -3,9 +3,5 @@ package org.example.florawhisperbackend.dao;
 import org.example.florawhisperbackend.entity.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Optional;
-
-public interface RoleDao extends JpaRepository<Role, Long> {
-
-    Optional<Role> findByRoleName(String roleName);
+public interface RoleDao extends JpaRepository<Role, Long>, RoleDaoCustom {
 }
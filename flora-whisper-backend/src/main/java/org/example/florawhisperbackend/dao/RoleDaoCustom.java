@@ -0,0 +1,10 @@
+package org.example.florawhisperbackend.dao;
+
+import org.example.florawhisperbackend.entity.Role;
+
+import java.util.Optional;
+
+public interface RoleDaoCustom {
+
+    Optional<Role> findByRoleName(String roleName);
+}
@@ -0,0 +1,21 @@
+package org.example.florawhisperbackend.dao;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.example.florawhisperbackend.entity.Role;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Transactional(readOnly = true)
+class RoleDaoCustomImpl implements RoleDaoCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Role> findByRoleName(String roleName) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(Role.class).loadOptional(roleName);
+    }
+}
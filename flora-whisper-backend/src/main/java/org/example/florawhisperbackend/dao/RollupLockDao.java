@@ -0,0 +1,21 @@
+package org.example.florawhisperbackend.dao;
+
+import jakarta.persistence.LockModeType;
+import org.example.florawhisperbackend.entity.RollupLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface RollupLockDao extends JpaRepository<RollupLock, Long> {
+
+    // SELECT ... FOR SHARE on MySQL: checkouts do not wait for each other, only for a rebuild
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT l FROM RollupLock l WHERE l.id = :id")
+    Optional<RollupLock> lockShared(long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM RollupLock l WHERE l.id = :id")
+    Optional<RollupLock> lockExclusive(long id);
+}
@@ -0,0 +1,7 @@
+package org.example.florawhisperbackend.dao;
+
+import org.example.florawhisperbackend.entity.TrendingSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TrendingSnapshotDao extends JpaRepository<TrendingSnapshot, Long> {
+}
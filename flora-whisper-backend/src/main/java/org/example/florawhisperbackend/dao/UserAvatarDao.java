@@ -0,0 +1,19 @@
+package org.example.florawhisperbackend.dao;
+
+import org.example.florawhisperbackend.entity.UserAvatar;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface UserAvatarDao extends JpaRepository<UserAvatar, Long> {
+
+    record AvatarInfo(Long userId, String contentType, long imageSize, String sha256) {}
+
+    // Loading the entity would pull the image along with it
+    @Query("""
+            SELECT new org.example.florawhisperbackend.dao.UserAvatarDao$AvatarInfo(a.userId, a.contentType, a.imageSize, a.sha256)
+            FROM UserAvatar a WHERE a.userId = :userId
+            """)
+    Optional<AvatarInfo> findInfoByUserId(Long userId);
+}
@@ -12,6 +12,7 @@ public class CheckoutPlantItemDto {
     private String name;
     private String description;
     private double price;
+    private Integer quantity;
     private String imageUrl;
     private String categoryName;
     private String plantType;
@@ -1,7 +1,10 @@
 package org.example.florawhisperbackend.dto;
 
+import org.example.florawhisperbackend.entity.CatalogChangeType;
 import org.example.florawhisperbackend.entity.Color;
 import org.example.florawhisperbackend.entity.Season;
+import org.example.florawhisperbackend.entity.ShippingStatus;
+import org.example.florawhisperbackend.event.CatalogChangedEvent.CatalogResource;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.math.BigDecimal;
@@ -89,4 +92,128 @@ public record FloraDto() {
          String code
     ) {}
 
+    public record OrderExportRow(
+            long id,
+            String orderCode,
+            LocalDate orderDate,
+            double totalAmount,
+            int totalItems,
+            String status,
+            String shippingStatus,
+            LocalDate expectedDeliveryDate,
+            String customerName,
+            String customerEmail,
+            String shippingAddress
+    ) {}
+
+    public record CatalogImportRow(
+            String name,
+            String description,
+            Double price,
+            Integer stock,
+            Double updatePrice,
+            String category,
+            Color color,
+            Integer piece,
+            String plantSize,
+            Boolean isEasyToCare,
+            String careInstructions,
+            String image
+    ) {}
+
+    public record CatalogImportReport(
+            long rows,
+            long imported,
+            long duplicates,
+            long failed,
+            List<String> errors,
+            long elapsedMillis
+    ) {}
+
+    public record DailySalesDto(
+            LocalDate date,
+            double revenue,
+            long units,
+            long orders
+    ) {}
+
+    public record PlantSalesDto(
+            LocalDate date,
+            long plantId,
+            double revenue,
+            long units
+    ) {}
+
+    public record CategorySalesDto(
+            LocalDate date,
+            Long categoryId,
+            String categoryName,
+            double revenue,
+            long units
+    ) {}
+
+    public record BulkStatusUpdateRequest(
+            List<Long> orderIds,
+            ShippingStatus status
+    ) {}
+
+    public record BulkStatusUpdateResponse(
+            int requested,
+            int updated
+    ) {}
+
+    public record OrderStatusUpdateDto(
+            long orderId,
+            String shippingStatus,
+            LocalDate expectedDeliveryDate
+    ) {}
+
+    public record GiftSuggestionDto(
+            long plantId,
+            String name,
+            double price,
+            int stock,
+            Color color,
+            List<String> meanings,
+            String colorMeaning
+    ) {}
+
+    public record RelatedPlantDto(
+            PlantDto plant,
+            int boughtTogether
+    ) {}
+
+    public record TrendingPlantDto(
+            PlantDto plant,
+            double score
+    ) {}
+
+    public record PlantChangeDto(
+            PlantDto plant,
+            String imageEtag
+    ) {}
+
+    public record CatalogChangeDto(
+            long seq,
+            CatalogResource resource,
+            Long id,
+            CatalogChangeType type,
+            Object data
+    ) {}
+
+    public record CatalogChangesDto(
+            long nextSince,
+            boolean hasMore,
+            List<CatalogChangeDto> changes
+    ) {}
+
+    public record UploadStatusDto(
+            String uploadId,
+            long offset,
+            long maxSize,
+            boolean complete,
+            String sha256,
+            String contentType
+    ) {}
+
 }
@@ -15,6 +15,8 @@ public class PlantCreateDto {
     private int stock;
     private double updatePrice;
     private MultipartFile imageUrl;
+    // Id of a completed resumable upload, used instead of the imageUrl file part
+    private String imageUploadId;
     private String category;
 
     // Flower-specific
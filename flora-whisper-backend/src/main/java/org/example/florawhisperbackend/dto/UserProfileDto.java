@@ -16,9 +16,9 @@ public class UserProfileDto {
     private String lastName;
     private String phone;
     private LocalDate createdAt;
-    private String img;
+    private String avatarUrl;
 
-    public UserProfileDto(Long id, String username, String email, String firstName, String lastName, String phone, LocalDate createdAt, String img) {
+    public UserProfileDto(Long id, String username, String email, String firstName, String lastName, String phone, LocalDate createdAt, String avatarUrl) {
         this.id = id;
         this.username = username;
         this.email = email;
@@ -26,6 +26,6 @@ public class UserProfileDto {
         this.lastName = lastName;
         this.phone = phone;
         this.createdAt = createdAt;
-        this.img = img;
+        this.avatarUrl = avatarUrl;
     }
 }
@@ -0,0 +1,44 @@
+package org.example.florawhisperbackend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Outbox entry of the invalidation bus, written in the transaction that made the change and read
+ * by every instance in id order.
+ */
+@Entity
+@Table(name = "cache_invalidation", indexes = @Index(name = "idx_cache_invalidation_created_at", columnList = "created_at"))
+@Getter @Setter
+@NoArgsConstructor
+public class CacheInvalidation extends IdClass {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private InvalidationScope scope;
+    // Null when the whole scope is invalidated
+    private Long entityId;
+    private boolean deleted;
+    // Instance that wrote the entry; it skips its own entries when tailing
+    @Column(nullable = false, length = 36)
+    private String origin;
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    public CacheInvalidation(InvalidationScope scope, Long entityId, boolean deleted, String origin, Instant createdAt) {
+        this.scope = scope;
+        this.entityId = entityId;
+        this.deleted = deleted;
+        this.origin = origin;
+        this.createdAt = createdAt;
+    }
+}
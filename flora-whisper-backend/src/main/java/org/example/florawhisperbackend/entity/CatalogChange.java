@@ -0,0 +1,42 @@
+package org.example.florawhisperbackend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.example.florawhisperbackend.event.CatalogChangedEvent.CatalogResource;
+
+import java.time.Instant;
+
+/**
+ * One entry of the catalog change log. The id doubles as the sequence number clients sync from.
+ */
+@Entity
+@Table(name = "catalog_change", indexes = @Index(name = "idx_catalog_change_entity", columnList = "resource, entity_id"))
+@Getter @Setter
+@NoArgsConstructor
+public class CatalogChange extends IdClass {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CatalogResource resource;
+    // Null for RESYNC entries
+    private Long entityId;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private CatalogChangeType type;
+    @Column(nullable = false)
+    private Instant changedAt;
+
+    public CatalogChange(CatalogResource resource, Long entityId, CatalogChangeType type, Instant changedAt) {
+        this.resource = resource;
+        this.entityId = entityId;
+        this.type = type;
+        this.changedAt = changedAt;
+    }
+}
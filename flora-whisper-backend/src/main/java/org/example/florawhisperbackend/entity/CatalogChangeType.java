@@ -0,0 +1,8 @@
+package org.example.florawhisperbackend.entity;
+
+public enum CatalogChangeType {
+    UPSERT,
+    DELETE,
+    // The whole resource changed (e.g. a bulk import); clients re-fetch its full list
+    RESYNC
+}
@@ -6,6 +6,10 @@ import jakarta.persistence.OneToMany;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,8 +17,11 @@ import java.util.List;
 @Entity
 @Getter @Setter
 @NoArgsConstructor
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.category")
+@NaturalIdCache(region = "catalog.category.natural-id")
 public class Category extends IdClass{
 
+    @NaturalId(mutable = true)
     private String categoryName;
 
     @OneToMany(mappedBy = "category", cascade = CascadeType.PERSIST)
@@ -7,11 +7,10 @@ import lombok.Setter;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 @Entity
+@Table(indexes = @Index(name = "idx_checkout_order_code", columnList = "order_code"))
 @Getter @Setter
 @NoArgsConstructor
 public class Checkout extends IdClass {
@@ -30,32 +29,14 @@ public class Checkout extends IdClass {
     @ManyToOne
     private Customer customer;
 
-    @ManyToMany
-    @JoinTable(
-            name = "checkout_plants",
-            joinColumns = @JoinColumn(name = "checkout_id"),
-            inverseJoinColumns = @JoinColumn(name = "plant_id")
-    )
-    private List<Plant> plants = new ArrayList<>();
-
-    @ElementCollection
-    @CollectionTable(name = "checkout_plant_quantities",
-            joinColumns = @JoinColumn(name = "checkout_id"))
-    @MapKeyColumn(name = "plant_id")
-    @Column(name = "quantity")
-    private Map<Long, Integer> plantQuantities = new HashMap<>();
-
-    // Simple helper method just for this entity
-    public void addPlantQuantity(Long plantId, int quantity) {
-        this.plantQuantities.put(plantId, quantity);
-        this.totalItems += quantity;
-    }
+    @OneToMany(mappedBy = "checkout", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id")
+    private List<OrderLine> lines = new ArrayList<>();
 
-    public void removePlantQuantity(Long plantId) {
-        Integer quantity = this.plantQuantities.remove(plantId);
-        if (quantity != null) {
-            this.totalItems -= quantity;
-        }
+    public void addLine(OrderLine line) {
+        line.setCheckout(this);
+        this.lines.add(line);
+        this.totalItems += line.getQuantity();
     }
-}
 
+}
@@ -0,0 +1,30 @@
+package org.example.florawhisperbackend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Entity
+@Getter @Setter
+@NoArgsConstructor
+@Table(
+        uniqueConstraints = @UniqueConstraint(columnNames = {"sales_date", "plant_id"}),
+        indexes = @Index(columnList = "sales_date, category_id")
+)
+public class DailyPlantSales extends IdClass {
+
+    @Column(nullable = false)
+    private LocalDate salesDate;
+    @Column(nullable = false)
+    private long plantId;
+    private Long categoryId;
+    private double revenue;
+    private long units;
+}
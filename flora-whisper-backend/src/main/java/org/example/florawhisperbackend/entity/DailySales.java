@@ -0,0 +1,21 @@
+package org.example.florawhisperbackend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Entity
+@Getter @Setter
+@NoArgsConstructor
+public class DailySales extends IdClass {
+
+    @Column(nullable = false, unique = true)
+    private LocalDate salesDate;
+    private double revenue;
+    private long units;
+    private long orderCount;
+}
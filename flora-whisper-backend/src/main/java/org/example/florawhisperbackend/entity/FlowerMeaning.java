@@ -5,6 +5,10 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -15,8 +19,11 @@ import java.util.Map;
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.flower-meaning")
+@NaturalIdCache(region = "catalog.flower-meaning.natural-id")
 public class FlowerMeaning extends IdClass {
 
+    @NaturalId(mutable = true)
     @Column(nullable = false, length = 100)
     private String name;
 
@@ -42,6 +49,7 @@ public class FlowerMeaning extends IdClass {
     @Column(length = 20)
     private Season season;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.flower-meaning.collections")
     @ElementCollection
     @CollectionTable(
             name = "flower_occasions",
@@ -50,6 +58,7 @@ public class FlowerMeaning extends IdClass {
     @Column(name = "occasion", length = 50)
     private List<String> occasions = new ArrayList<>();
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.flower-meaning.collections")
     @ElementCollection
     @CollectionTable(
             name = "flower_cultural_meanings",
@@ -58,6 +67,7 @@ public class FlowerMeaning extends IdClass {
     @Column(name = "cultural_meaning", columnDefinition = "TEXT")
     private List<String> culturalMeanings = new ArrayList<>();
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.flower-meaning.collections")
     @ElementCollection
     @CollectionTable(
             name = "flower_images",
@@ -72,6 +82,7 @@ public class FlowerMeaning extends IdClass {
     @Column(length = 100)
     private String colorVarieties;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.flower-meaning.collections")
     @ElementCollection
     @CollectionTable(
             name = "flower_color_meanings",
@@ -0,0 +1,33 @@
+package org.example.florawhisperbackend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Read model for {@link FlowerMeaning}: one row per flower meaning holding the complete response
+ * as a JSON document, so list and detail reads need no joins against the element collections.
+ * Shares its id with the flower meaning it mirrors.
+ */
+@Entity
+@Table(name = "flower_meaning_view", indexes = @Index(name = "idx_flower_meaning_view_name", columnList = "name"))
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlowerMeaningView {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String document;
+}
@@ -0,0 +1,28 @@
+package org.example.florawhisperbackend.entity;
+
+import org.example.florawhisperbackend.event.CatalogChangedEvent.CatalogResource;
+
+public enum InvalidationScope {
+    CATEGORY(CatalogResource.CATEGORY),
+    PLANT(CatalogResource.PLANT),
+    FLOWER_MEANING(CatalogResource.FLOWER_MEANING),
+    USER(null);
+
+    private final CatalogResource catalogResource;
+
+    InvalidationScope(CatalogResource catalogResource) {
+        this.catalogResource = catalogResource;
+    }
+
+    public CatalogResource getCatalogResource() {
+        return catalogResource;
+    }
+
+    public static InvalidationScope of(CatalogResource resource) {
+        return switch (resource) {
+            case CATEGORY -> CATEGORY;
+            case PLANT -> PLANT;
+            case FLOWER_MEANING -> FLOWER_MEANING;
+        };
+    }
+}
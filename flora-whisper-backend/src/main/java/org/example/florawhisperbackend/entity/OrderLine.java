@@ -0,0 +1,43 @@
+package org.example.florawhisperbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One purchased plant within a {@link Checkout}. Name, type and price are copied from the
+ * catalog at checkout time, so order reads never depend on the current state of {@link Plant}.
+ */
+@Entity
+@Getter @Setter
+@NoArgsConstructor
+@Table(indexes = @Index(columnList = "checkout_id"))
+public class OrderLine {
+
+    // Pooled ids let Hibernate batch the inserts of all lines of an order
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_line_seq")
+    @SequenceGenerator(name = "order_line_seq", sequenceName = "order_line_seq", allocationSize = 50)
+    private long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    private Checkout checkout;
+
+    private long plantId;
+    private String plantName;
+    @Column(length = 20)
+    private String plantType;
+    private Long categoryId;
+    private String categoryName;
+    @Column(length = 20)
+    private String color;
+    private Integer piece;
+    private String plantSize;
+    private double unitPrice;
+    private int quantity;
+
+    public double getLineTotal() {
+        return unitPrice * quantity;
+    }
+}
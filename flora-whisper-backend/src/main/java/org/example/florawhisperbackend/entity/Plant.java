@@ -4,15 +4,18 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-
-import java.util.ArrayList;
-import java.util.List;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Getter @Setter
 @NoArgsConstructor
 @Inheritance(strategy = InheritanceType.JOINED)
 @DiscriminatorColumn(name = "plant_type")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.plant")
+// Only changed columns are written: a stock update no longer rewrites the image, and ImageStore can stream it separately
+@DynamicUpdate
 public class Plant extends IdClass {
 
     private String name;
@@ -22,13 +25,18 @@ public class Plant extends IdClass {
     private int stock;
     @Lob
     private byte[] imageUrl;
+    // SHA-256 of imageUrl, written with it by ImageStore, so the image can be tagged without reading it
+    @Column(length = 64)
+    private String imageSha256;
     private double updatePrice;
     
     @ManyToOne
     private Category category;
 
-    @ManyToMany(mappedBy = "plants")
-    private List<Checkout> checkouts = new ArrayList<>();
+    /** What a customer pays: the sale price when one is set, otherwise the list price. */
+    public double effectivePrice() {
+        return updatePrice > 0 ? updatePrice : price;
+    }
 
     public Plant(String name, String description, double price, int stock, byte[] imageUrl, double updatePrice) {
         this.name = name;
@@ -5,14 +5,21 @@ import jakarta.persistence.Entity;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.Objects;
 
 @Entity
 @Getter @Setter
 @NoArgsConstructor
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "reference.role")
+@NaturalIdCache(region = "reference.role.natural-id")
 public class Role extends IdClass{
 
+    @NaturalId
     @Column(nullable = false)
     private String roleName;
 
@@ -0,0 +1,27 @@
+package org.example.florawhisperbackend.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * The single row of {@code rollup_lock}. Checkouts hold a shared lock on it while they write
+ * their order and rollup rows; a rollup rebuild holds it exclusively.
+ */
+@Entity
+@Table(name = "rollup_lock")
+@Getter
+@NoArgsConstructor
+public class RollupLock {
+
+    public static final long SALES = 1;
+
+    @Id
+    private Long id;
+
+    public RollupLock(Long id) {
+        this.id = id;
+    }
+}
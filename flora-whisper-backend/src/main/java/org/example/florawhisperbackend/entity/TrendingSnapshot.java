@@ -0,0 +1,33 @@
+package org.example.florawhisperbackend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Entity
+@Getter @Setter
+@NoArgsConstructor
+public class TrendingSnapshot extends IdClass {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "trending_window", nullable = false, length = 10)
+    private TrendingWindow window;
+    private long plantId;
+    private double score;
+    private double error;
+    private Instant snapshotAt;
+
+    public TrendingSnapshot(TrendingWindow window, long plantId, double score, double error, Instant snapshotAt) {
+        this.window = window;
+        this.plantId = plantId;
+        this.score = score;
+        this.error = error;
+        this.snapshotAt = snapshotAt;
+    }
+}
@@ -27,8 +27,6 @@ public class User extends IdClass {
     private String lastName;
     private String phone;
     private LocalDate createdAt;
-    @Lob
-    private byte[] img;
 
     @ManyToMany(fetch = FetchType.EAGER, cascade = CascadeType.PERSIST)
     private Set<Role> roles = new HashSet<>();
@@ -0,0 +1,42 @@
+package org.example.florawhisperbackend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Profile image of a {@link User}, kept out of {@code users} so authentication never reads it.
+ * Shares its id with the user. The image bytes are written and served through JDBC streams by
+ * {@code ImageStore}; JPA reads only the metadata columns.
+ */
+@Entity
+@Table(name = "user_avatar")
+@Getter @Setter
+@NoArgsConstructor
+public class UserAvatar {
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false, length = 32)
+    private String contentType;
+
+    private long imageSize;
+
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] data;
+}
@@ -0,0 +1,24 @@
+package org.example.florawhisperbackend.event;
+
+/**
+ * Published whenever catalog data that is served to shoppers changes. {@code id} is the changed
+ * row, or null when the change cannot be pinned to a single row; {@code deleted} marks a row
+ * that no longer exists. {@code remote} marks a change made on another instance and relayed by
+ * the invalidation bus; it has already been committed and logged there.
+ */
+public record CatalogChangedEvent(CatalogResource resource, Long id, boolean deleted, boolean remote) {
+
+    public CatalogChangedEvent(CatalogResource resource, Long id) {
+        this(resource, id, false, false);
+    }
+
+    public CatalogChangedEvent(CatalogResource resource, Long id, boolean deleted) {
+        this(resource, id, deleted, false);
+    }
+
+    public enum CatalogResource {
+        CATEGORY,
+        PLANT,
+        FLOWER_MEANING
+    }
+}
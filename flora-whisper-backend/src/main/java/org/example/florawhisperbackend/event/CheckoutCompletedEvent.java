@@ -0,0 +1,14 @@
+package org.example.florawhisperbackend.event;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Published by {@code FloraService.processCheckout}; listeners that should only see committed
+ * orders use {@code @TransactionalEventListener}.
+ */
+public record CheckoutCompletedEvent(
+        long checkoutId,
+        Map<Long, Integer> plantQuantities,
+        Instant completedAt
+) {}
@@ -0,0 +1,12 @@
+package org.example.florawhisperbackend.event;
+
+import org.example.florawhisperbackend.entity.ShippingStatus;
+
+import java.time.LocalDate;
+
+public record OrderStatusChangedEvent(
+        long orderId,
+        String username,
+        ShippingStatus shippingStatus,
+        LocalDate expectedDeliveryDate
+) {}
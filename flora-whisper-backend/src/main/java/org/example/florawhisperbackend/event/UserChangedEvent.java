@@ -0,0 +1,12 @@
+package org.example.florawhisperbackend.event;
+
+/**
+ * Published when a user's login details change. {@code userId} is null when every user is
+ * affected; {@code remote} marks a change relayed from another instance.
+ */
+public record UserChangedEvent(Long userId, boolean remote) {
+
+    public UserChangedEvent(Long userId) {
+        this(userId, false);
+    }
+}
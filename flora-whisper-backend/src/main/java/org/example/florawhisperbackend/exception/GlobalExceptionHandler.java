@@ -16,12 +16,18 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 	@ExceptionHandler({
 			NotFoundException.class, InsufficientException.class,
 			SecurityCodeInvalidException.class, RegisterAccountTypeError.class,
-			AlreadyExistException.class
+			AlreadyExistException.class, InvalidImageException.class
 	})
 	public ResponseEntity<Object> handleError(Exception ex, WebRequest req) throws Exception {
 		return handleExceptionInternal(ex, message(ex), new HttpHeaders(), HttpStatus.BAD_REQUEST, req);
 	}
 	
+	@ExceptionHandler(TooManyRequestsException.class)
+	public ResponseEntity<Object> handleTooManyRequests(TooManyRequestsException ex, WebRequest req) {
+		ApiError error = new ApiError(HttpStatus.TOO_MANY_REQUESTS.value(), ex.getReason(), LocalDateTime.now());
+		return handleExceptionInternal(ex, error, ex.getHeaders(), HttpStatus.TOO_MANY_REQUESTS, req);
+	}
+
 	private ApiError message(Exception ex) {
 		return new ApiError(HttpStatus.BAD_REQUEST.value(), ex.getMessage(), LocalDateTime.now());
 	}
@@ -0,0 +1,11 @@
+package org.example.florawhisperbackend.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class InvalidImageException extends ResponseStatusException {
+
+	public InvalidImageException(String msg) {
+		super(HttpStatus.BAD_REQUEST, msg);
+	}
+}
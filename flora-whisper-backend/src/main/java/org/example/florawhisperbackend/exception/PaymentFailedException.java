@@ -0,0 +1,8 @@
+package org.example.florawhisperbackend.exception;
+
+public class PaymentFailedException extends RuntimeException {
+
+	public PaymentFailedException(String msg, Throwable cause) {
+		super(msg, cause);
+	}
+}
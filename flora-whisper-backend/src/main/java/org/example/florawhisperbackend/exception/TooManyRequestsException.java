@@ -0,0 +1,26 @@
+package org.example.florawhisperbackend.exception;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class TooManyRequestsException extends ResponseStatusException {
+
+	private final long retryAfterSeconds;
+
+	public TooManyRequestsException(String msg, long retryAfterSeconds) {
+		super(HttpStatus.TOO_MANY_REQUESTS, msg);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+
+	@Override
+	public HttpHeaders getHeaders() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+		return headers;
+	}
+}
@@ -0,0 +1,11 @@
+package org.example.florawhisperbackend.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class UploadOffsetMismatchException extends ResponseStatusException {
+
+	public UploadOffsetMismatchException(long expected, long actual) {
+		super(HttpStatus.CONFLICT, "Upload is at offset %d, chunk starts at %d".formatted(expected, actual));
+	}
+}
@@ -0,0 +1,112 @@
+package org.example.florawhisperbackend.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.example.florawhisperbackend.exception.InsufficientException;
+import org.example.florawhisperbackend.exception.NotFoundException;
+import org.example.florawhisperbackend.exception.SecurityCodeInvalidException;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Business meters for checkout, payments, search and login. Tag values are kept to small fixed
+ * sets (outcome, reason, filter shape) so the number of series stays bounded.
+ */
+@Component
+@RequiredArgsConstructor
+public class FloraMetrics {
+
+    private final MeterRegistry registry;
+
+    public Timer.Sample startTimer() {
+        return Timer.start(registry);
+    }
+
+    public void checkoutCompleted(Timer.Sample sample) {
+        sample.stop(checkoutTimer("success", "none"));
+    }
+
+    public void checkoutFailed(Timer.Sample sample, String reason) {
+        sample.stop(checkoutTimer("failure", reason));
+    }
+
+    public void stockInsufficient() {
+        Counter.builder("flora.stock.insufficient")
+                .description("Order lines rejected because the plant was out of stock")
+                .register(registry)
+                .increment();
+    }
+
+    public <T> T recordPayment(String operation, Supplier<T> payment) {
+        Timer.Sample sample = startTimer();
+        String outcome = "success";
+        try {
+            return payment.get();
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            Counter.builder("flora.payment.failures")
+                    .tag("operation", operation)
+                    .tag("reason", paymentFailureReason(e))
+                    .register(registry)
+                    .increment();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("flora.payment")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(registry));
+        }
+    }
+
+    public <T> T recordSearch(String category, boolean hasColor, boolean hasName, Supplier<T> search) {
+        String filter = hasColor && hasName ? "color+name" : hasColor ? "color" : hasName ? "name" : "none";
+        return Timer.builder("flora.search")
+                .description("Plant search latency by filter shape")
+                .tag("category", category)
+                .tag("filter", filter)
+                .publishPercentileHistogram()
+                .register(registry)
+                .record(search);
+    }
+
+    public <T> T recordLogin(Supplier<T> login) {
+        Timer.Sample sample = startTimer();
+        String outcome = "failure";
+        try {
+            T result = login.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(Timer.builder("flora.auth.login").tag("outcome", outcome).register(registry));
+        }
+    }
+
+    public void registered(String accountType) {
+        Counter.builder("flora.auth.registrations")
+                .tag("account_type", accountType)
+                .register(registry)
+                .increment();
+    }
+
+    private Timer checkoutTimer(String outcome, String reason) {
+        return Timer.builder("flora.checkout")
+                .description("Checkout latency and outcome")
+                .tag("outcome", outcome)
+                .tag("reason", reason)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private static String paymentFailureReason(RuntimeException e) {
+        return switch (e) {
+            case SecurityCodeInvalidException ignored -> "invalid_code";
+            case InsufficientException ignored -> "insufficient_funds";
+            case NotFoundException ignored -> "account_not_found";
+            case IllegalArgumentException ignored -> "invalid_amount";
+            default -> "error";
+        };
+    }
+}
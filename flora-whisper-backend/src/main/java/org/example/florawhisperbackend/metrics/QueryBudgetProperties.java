@@ -0,0 +1,27 @@
+package org.example.florawhisperbackend.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * @param defaultBudget   statements allowed per request when the route has no entry in endpoints
+ * @param repeatThreshold executions of one identical SELECT that count as an N+1 pattern
+ * @param strict          fail the request instead of warning; meant for integration tests
+ * @param endpoints       budgets keyed by route pattern, e.g. {@code /api/flora/plants/{id}}
+ */
+@ConfigurationProperties("app.query-budget")
+public record QueryBudgetProperties(
+        @DefaultValue("30") int defaultBudget,
+        @DefaultValue("" + QueryBudgetProperties.DEFAULT_REPEAT_THRESHOLD) int repeatThreshold,
+        @DefaultValue("false") boolean strict,
+        Map<String, Integer> endpoints
+) {
+
+    public static final int DEFAULT_REPEAT_THRESHOLD = 5;
+
+    public int budgetFor(String route) {
+        return endpoints == null ? defaultBudget : endpoints.getOrDefault(route, defaultBudget);
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.florawhisperbackend.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.florawhisperbackend.metrics.QueryTracker.QueryStats;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Tracks the SQL each request issues. Statement and row counts are recorded per route; a request
+ * over its route's budget, or repeating one SELECT past the N+1 threshold, is reported (or fails
+ * outright in strict mode). The stats are left on the request under
+ * {@link QueryTracker#STATS_ATTRIBUTE} for tests to assert on.
+ * <p>
+ * Strict mode buffers the response body so a failing request is rejected before anything reaches
+ * the client; with open-in-view, statements issued while the body is serialized are counted too.
+ * Streamed responses are written on other threads, are not tracked, and pass through unbuffered.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry registry;
+    private final QueryBudgetProperties budget;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        HttpServletResponse target = budget.strict() ? new BufferedResponse(request, response) : response;
+        QueryTracker.start();
+        QueryStats stats;
+        try {
+            chain.doFilter(request, target);
+        } finally {
+            stats = QueryTracker.stop();
+        }
+        request.setAttribute(QueryTracker.STATS_ATTRIBUTE, stats);
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern == null ? "UNKNOWN" : pattern.toString();
+        record(request.getMethod(), route, stats);
+        check(request.getMethod(), route, stats);
+        if (target instanceof BufferedResponse buffered) {
+            buffered.copyBodyToResponse();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    private void record(String method, String route, QueryStats stats) {
+        summary("flora.http.queries", "SQL statements per request", method, route).record(stats.statements());
+        summary("flora.http.rows", "Entity rows loaded per request", method, route).record(stats.rows());
+    }
+
+    private DistributionSummary summary(String name, String description, String method, String route) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tag("method", method)
+                .tag("uri", route)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private void check(String method, String route, QueryStats stats) {
+        int allowed = budget.budgetFor(route);
+        if (stats.statements() > allowed) {
+            report("Query budget exceeded for %s %s: %d statements (budget %d), %d rows"
+                    .formatted(method, route, stats.statements(), allowed, stats.rows()));
+        }
+        if (stats.maxRepeats() >= budget.repeatThreshold()) {
+            stats.repeated().forEach((sql, count) -> {
+                if (count >= budget.repeatThreshold()) {
+                    report("Possible N+1 in %s %s: %d executions of %s".formatted(method, route, count, sql));
+                }
+            });
+        }
+    }
+
+    private void report(String message) {
+        if (budget.strict()) {
+            throw new IllegalStateException(message);
+        }
+        System.err.println("WARN " + message);
+    }
+
+    /**
+     * Holds the body back until the query checks have passed. Spring marks streaming responses
+     * (emitters, {@code StreamingResponseBody}) through {@link ShallowEtagHeaderFilter#disableContentCaching},
+     * which is honoured here the same way that filter does.
+     */
+    private static final class BufferedResponse extends ContentCachingResponseWrapper {
+
+        private static final String STREAMING_ATTRIBUTE = ShallowEtagHeaderFilter.class.getName() + ".STREAMING";
+
+        private final HttpServletRequest request;
+
+        BufferedResponse(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            return streaming() ? getResponse().getOutputStream() : super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            return streaming() ? getResponse().getWriter() : super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (streaming()) {
+                getResponse().flushBuffer();
+            }
+        }
+
+        private boolean streaming() {
+            return request.getAttribute(STREAMING_ATTRIBUTE) != null;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package org.example.florawhisperbackend.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Sees every SQL statement Hibernate prepares and reports it to the current request's tracker
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryTracker.statement(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.florawhisperbackend.metrics;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-thread SQL accounting for the request being served. Statements and loaded entity rows are
+ * only counted between {@link #start()} and {@link #stop()}; work on background threads is ignored.
+ */
+public final class QueryTracker {
+
+    /** Request attribute holding the {@link QueryStats} of a finished request. */
+    public static final String STATS_ATTRIBUTE = QueryTracker.class.getName() + ".stats";
+
+    private static final ThreadLocal<Context> CURRENT = new ThreadLocal<>();
+
+    private QueryTracker() {
+    }
+
+    /**
+     * @param statements SQL statements prepared
+     * @param rows       entity rows hydrated from result sets
+     * @param repeated   SELECTs executed more than once, with their execution counts
+     */
+    public record QueryStats(int statements, int rows, Map<String, Integer> repeated) {
+
+        public int maxRepeats() {
+            return repeated.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        }
+    }
+
+    private static final class Context {
+        private int statements;
+        private int rows;
+        private final Map<String, Integer> selects = new HashMap<>();
+    }
+
+    public static void start() {
+        CURRENT.set(new Context());
+    }
+
+    public static QueryStats stop() {
+        Context context = CURRENT.get();
+        CURRENT.remove();
+        if (context == null) {
+            return new QueryStats(0, 0, Map.of());
+        }
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        context.selects.forEach((sql, count) -> {
+            if (count > 1) {
+                repeated.put(sql, count);
+            }
+        });
+        return new QueryStats(context.statements, context.rows, repeated);
+    }
+
+    static void statement(String sql) {
+        Context context = CURRENT.get();
+        if (context == null) {
+            return;
+        }
+        context.statements++;
+        // Hibernate binds parameters as '?', so N+1 loads share the exact same SQL text
+        if (sql.regionMatches(true, 0, "select", 0, 6)) {
+            context.selects.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    static void rowLoaded() {
+        Context context = CURRENT.get();
+        if (context != null) {
+            context.rows++;
+        }
+    }
+}
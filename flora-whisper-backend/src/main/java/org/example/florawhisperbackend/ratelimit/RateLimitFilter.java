@@ -0,0 +1,59 @@
+package org.example.florawhisperbackend.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.example.florawhisperbackend.concurrency.Rejections;
+import org.example.florawhisperbackend.exception.TooManyRequestsException;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Per-IP limits on login, registration and payment, applied ahead of Spring Security so rejected
+ * requests never reach authentication. Per-username and per-account limits need the request body
+ * and are checked in {@code AuthService} and the payment service instead. Behind a proxy, set
+ * {@code server.forward-headers-strategy} so the client address is the real one.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        // The decoded, normalized path MVC routes on; the raw URI could dodge a rule with %-escapes or ;params
+        String rule = rule(request.getServletPath());
+        if (rule != null) {
+            try {
+                rateLimiter.check(rule, request.getRemoteAddr());
+            } catch (TooManyRequestsException e) {
+                Rejections.reject(response, HttpStatus.TOO_MANY_REQUESTS, e.getRetryAfterSeconds(), e.getReason());
+                return;
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private String rule(String path) {
+        if (path.equals("/api/auth/login")) {
+            return RateLimiter.LOGIN_IP;
+        }
+        if (path.startsWith("/api/auth/register/")) {
+            return RateLimiter.REGISTER_IP;
+        }
+        if (path.startsWith("/api/payment/")) {
+            return RateLimiter.PAYMENT_IP;
+        }
+        return null;
+    }
+}
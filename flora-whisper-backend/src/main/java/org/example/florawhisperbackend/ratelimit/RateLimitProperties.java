@@ -0,0 +1,36 @@
+package org.example.florawhisperbackend.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * @param enabled turns all rate limiting on or off
+ * @param maxKeys tracked keys above which idle ones are swept immediately instead of on schedule
+ * @param rules   per rule name, e.g. {@code login-ip}; overrides the built-in defaults
+ */
+@ConfigurationProperties("app.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") int maxKeys,
+        Map<String, Rule> rules
+) {
+
+    /**
+     * Allows {@code limit} requests per {@code period}, spread evenly, with bursts of up to
+     * {@code limit} after a quiet spell.
+     */
+    public record Rule(int limit, Duration period) {
+
+        public Rule {
+            if (limit < 1) {
+                throw new IllegalArgumentException("Rate limit rule needs a limit of at least 1, got " + limit);
+            }
+            if (period == null || period.isZero() || period.isNegative()) {
+                throw new IllegalArgumentException("Rate limit rule needs a positive period, got " + period);
+            }
+        }
+    }
+}
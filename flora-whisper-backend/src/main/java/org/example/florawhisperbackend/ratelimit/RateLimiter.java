@@ -0,0 +1,125 @@
+package org.example.florawhisperbackend.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.example.florawhisperbackend.exception.TooManyRequestsException;
+import org.example.florawhisperbackend.ratelimit.RateLimitProperties.Rule;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory rate limiter using the generic cell rate algorithm (GCRA), a token bucket in which
+ * each key's state is one timestamp: the theoretical arrival time (TAT) of its next request.
+ * A request is allowed when the TAT is at most one burst ahead of now, and then pushes the TAT
+ * forward by one emission interval. State lives in a {@link ConcurrentHashMap}, whose bins are
+ * striped, and each TAT is updated with compare-and-set, so no lock is taken. A key whose TAT
+ * is in the past has a full bucket and is dropped by the sweep. Past {@code maxKeys} keys, requests
+ * also trigger the sweep, but at most once per second, so a flood of distinct keys costs one scan
+ * a second rather than one per request.
+ */
+@Component
+public class RateLimiter {
+
+    public static final String LOGIN_IP = "login-ip";
+    public static final String LOGIN_USER = "login-user";
+    public static final String REGISTER_IP = "register-ip";
+    public static final String PAYMENT_IP = "payment-ip";
+    public static final String PAYMENT_ACCOUNT = "payment-account";
+
+    private static final Map<String, Rule> DEFAULT_RULES = Map.of(
+            LOGIN_IP, new Rule(30, Duration.ofMinutes(1)),
+            LOGIN_USER, new Rule(5, Duration.ofMinutes(1)),
+            REGISTER_IP, new Rule(5, Duration.ofMinutes(10)),
+            PAYMENT_IP, new Rule(60, Duration.ofMinutes(1)),
+            PAYMENT_ACCOUNT, new Rule(10, Duration.ofMinutes(1))
+    );
+
+    private static final long OVERFLOW_SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private record Limits(long emissionIntervalNanos, long burstToleranceNanos) {}
+
+    private final boolean enabled;
+    private final int maxKeys;
+    private final Map<String, Limits> limits = new HashMap<>();
+    private final Map<String, AtomicLong> theoreticalArrivals = new ConcurrentHashMap<>();
+    private final MeterRegistry registry;
+    private final AtomicLong lastOverflowSweep = new AtomicLong(System.nanoTime() - OVERFLOW_SWEEP_INTERVAL_NANOS);
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry registry) {
+        this.enabled = properties.enabled();
+        this.maxKeys = properties.maxKeys();
+        this.registry = registry;
+        Map<String, Rule> rules = new HashMap<>(DEFAULT_RULES);
+        if (properties.rules() != null) {
+            rules.putAll(properties.rules());
+        }
+        rules.forEach((name, rule) -> {
+            long interval = rule.period().toNanos() / Math.max(1, rule.limit());
+            limits.put(name, new Limits(interval, interval * (Math.max(1, rule.limit()) - 1)));
+        });
+        registry.gaugeMapSize("flora.ratelimit.keys", Tags.empty(), theoreticalArrivals);
+    }
+
+    /**
+     * @throws TooManyRequestsException when {@code key} has used up its allowance under {@code rule}
+     */
+    public void check(String rule, String key) {
+        long waitNanos = tryAcquire(rule, key);
+        if (waitNanos > 0) {
+            registry.counter("flora.ratelimit.rejected", "rule", rule).increment();
+            throw new TooManyRequestsException("Too many requests, please try again later",
+                    Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)));
+        }
+    }
+
+    /**
+     * @return 0 if the request is allowed, otherwise how long to wait before retrying, in nanos
+     */
+    public long tryAcquire(String rule, String key) {
+        Limits limit = limits.get(rule);
+        if (!enabled || limit == null || key == null || key.isBlank()) {
+            return 0;
+        }
+        if (theoreticalArrivals.size() > maxKeys) {
+            sweepOverflow();
+        }
+        String bucket = rule + '|' + key.trim().toLowerCase(Locale.ROOT);
+        AtomicLong tat = theoreticalArrivals.computeIfAbsent(bucket, k -> new AtomicLong(Long.MIN_VALUE));
+        while (true) {
+            long now = System.nanoTime();
+            long current = tat.get();
+            long base = current == Long.MIN_VALUE || current - now < 0 ? now : current;
+            long allowAt = base - limit.burstToleranceNanos();
+            if (allowAt - now > 0) {
+                return allowAt - now;
+            }
+            if (tat.compareAndSet(current, base + limit.emissionIntervalNanos())) {
+                return 0;
+            }
+        }
+    }
+
+    // Whoever wins the CAS sweeps; everyone else carries on without waiting for it
+    private void sweepOverflow() {
+        long now = System.nanoTime();
+        long last = lastOverflowSweep.get();
+        if (now - last >= OVERFLOW_SWEEP_INTERVAL_NANOS && lastOverflowSweep.compareAndSet(last, now)) {
+            evictIdle();
+        }
+    }
+
+    // A request racing with the removal of its idle key may go uncounted; at most one per key
+    @Scheduled(fixedDelayString = "${app.rate-limit.sweep-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        theoreticalArrivals.values().removeIf(tat -> tat.get() - now <= 0);
+    }
+}
@@ -2,19 +2,76 @@ package org.example.florawhisperbackend.security;
 
 import lombok.RequiredArgsConstructor;
 import org.example.florawhisperbackend.dao.UserDao;
+import org.example.florawhisperbackend.entity.User;
+import org.example.florawhisperbackend.event.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads principals for login and for every JWT-authenticated request. Loaded principals are kept
+ * for a short time, keyed by the name they were looked up with, and dropped when a
+ * {@link UserChangedEvent} names their user.
+ * <p>
+ * Only the profile update and password change in {@code AuthService} publish that event. A role
+ * change, account disable or any other new write to a user that does not publish it stays
+ * invisible to authentication until {@code app.security.principal-cache-ttl} expires, so such
+ * code must publish {@link UserChangedEvent} in the transaction that makes the change.
+ */
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserDao userDao;
 
+    @Value("${app.security.principal-cache-ttl:5m}")
+    private Duration principalCacheTtl;
+    @Value("${app.security.principal-cache-size:10000}")
+    private int principalCacheSize;
+
+    private final Map<String, CachedPrincipal> principals = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private record CachedPrincipal(long userId, SecurityUser principal, Instant loadedAt) {}
+
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userDao.findByUsernameOrEmail(username).map(SecurityUser::new).orElseThrow(() -> new UsernameNotFoundException("User %s not found".formatted(username)));
+        CachedPrincipal cached = principals.get(username);
+        if (cached != null && cached.loadedAt().isAfter(Instant.now().minus(principalCacheTtl))) {
+            return cached.principal();
+        }
+
+        // Read before loading, so a principal loaded across an invalidation is not kept
+        long generation = invalidations.get();
+        User user = userDao.findByUsernameOrEmail(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User %s not found".formatted(username)));
+        SecurityUser principal = new SecurityUser(user);
+        if (principals.size() >= principalCacheSize) {
+            principals.clear();
+        }
+        principals.put(username, new CachedPrincipal(user.getId(), principal, Instant.now()));
+        if (invalidations.get() != generation) {
+            principals.remove(username);
+        }
+        return principal;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidations.incrementAndGet();
+        if (event.userId() == null) {
+            principals.clear();
+        } else {
+            principals.values().removeIf(cached -> cached.userId() == event.userId());
+        }
     }
 }
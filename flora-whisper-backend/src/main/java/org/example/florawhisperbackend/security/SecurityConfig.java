@@ -1,9 +1,11 @@
 package org.example.florawhisperbackend.security;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -44,11 +46,29 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS));
 
         http.authorizeHttpRequests(c -> {
+            // Streamed responses (order export, status events) complete on an async dispatch that
+            // carries no JWT; the original request was already authorized
+            c.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll();
+            // Must precede the public plant matchers below, which would otherwise cover it
+            c.requestMatchers(HttpMethod.POST, "/api/flora/plants/import").hasRole("ADMIN");
             c.requestMatchers("/api/flora/categories", "api/flora/categories/**",
                     "api/flora/plants", "api/flora/plants/**").permitAll();
             c.requestMatchers("/api/auth/**").permitAll();
+            // Scraped by Prometheus; the management port is not exposed publicly
+            c.requestMatchers("/actuator/health", "/actuator/prometheus").permitAll();
             c.requestMatchers("/api/flora/flower-meanings").permitAll();
+            c.requestMatchers("/api/flora/changes").permitAll();
+            // Loaded by <img> tags, which cannot send the bearer token. User ids are sequential, so
+            // anyone can walk them and download every avatar; only images users expect to be public
+            // belong here
+            c.requestMatchers(HttpMethod.GET, "/api/user/*/avatar").permitAll();
             c.requestMatchers("/api/user/**").authenticated();
+            // Every customer's name, email and address
+            c.requestMatchers(HttpMethod.GET, "/api/flora/orders/export").hasRole("ADMIN");
+            // Moves arbitrary orders along and notifies their customers
+            c.requestMatchers(HttpMethod.PUT, "/api/flora/orders/status").hasRole("ADMIN");
+            // Sales figures, and rebuilds that rewrite every rollup row
+            c.requestMatchers("/api/flora/reports/**").hasRole("ADMIN");
             c.anyRequest().authenticated();
         });
 
@@ -2,15 +2,24 @@ package org.example.florawhisperbackend.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.florawhisperbackend.dao.*;
+import org.example.florawhisperbackend.dao.UserAvatarDao.AvatarInfo;
 import org.example.florawhisperbackend.dto.ChangePasswordRequest;
 import org.example.florawhisperbackend.dto.FloraDto.*;
 import org.example.florawhisperbackend.dto.LoginResponse;
 import org.example.florawhisperbackend.dto.UserProfileDto;
 import org.example.florawhisperbackend.entity.*;
+import org.example.florawhisperbackend.event.UserChangedEvent;
 import org.example.florawhisperbackend.exception.NotFoundException;
 import org.example.florawhisperbackend.exception.RegisterAccountTypeError;
 import org.example.florawhisperbackend.exception.AlreadyExistException;
+import org.example.florawhisperbackend.metrics.FloraMetrics;
+import org.example.florawhisperbackend.ratelimit.RateLimiter;
 import org.example.florawhisperbackend.security.JwtTokenProvider;
+import org.example.florawhisperbackend.upload.ImageSpooler;
+import org.example.florawhisperbackend.upload.ImageStore;
+import org.example.florawhisperbackend.upload.SpooledImage;
+import org.example.florawhisperbackend.util.SnowflakeIdGenerator;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -19,19 +28,22 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.security.Principal;
 import java.security.SecureRandom;
 import java.time.LocalDate;
-import java.util.Base64;
 import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
+    private static final SecureRandom OTP_RANDOM = new SecureRandom();
+
     private final PasswordEncoder passwordEncoder;
     private final CustomerDao customerDao;
     private final AdminDao adminDao;
@@ -41,8 +53,21 @@ public class AuthService {
     private final PaymentAccountDao paymentAccountDao;
     private final OtpDao otpDao;
     private final JwtTokenProvider jwtTokenProvider;
+    private final SnowflakeIdGenerator idGenerator;
+    private final FloraMetrics floraMetrics;
+    private final RateLimiter rateLimiter;
+    private final ImageSpooler imageSpooler;
+    private final ImageStore imageStore;
+    private final UserAvatarDao userAvatarDao;
+    private final ApplicationEventPublisher eventPublisher;
 
     public LoginResponse login(LoginRequest loginRequest) {
+        // Before authenticating, so throttled attempts never cost a BCrypt hash
+        rateLimiter.check(RateLimiter.LOGIN_USER, loginRequest.userNameOrEmail());
+        return floraMetrics.recordLogin(() -> authenticate(loginRequest));
+    }
+
+    private LoginResponse authenticate(LoginRequest loginRequest) {
         var auth = new UsernamePasswordAuthenticationToken(loginRequest.userNameOrEmail(), loginRequest.password());
         Authentication authentication = authenticationManager.authenticate(auth);
         SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -91,19 +116,15 @@ public class AuthService {
                     LocalDate.now()
             );
 
-            if (registerDto.img() == null && registerDto.img().isEmpty()) {
+            if (registerDto.img() == null || registerDto.img().isEmpty()) {
                 throw new RuntimeException("Image is null");
-            } else if(registerDto.img() != null && !registerDto.img().isEmpty()) {
-                try {
-                    customer.setImg(registerDto.img().getBytes());
-                } catch (IOException e) {
-                    throw new RuntimeException("Failed to process image");
-                }
             }
 
             customer.addRole(role);
             customerDao.save(customer);
+            storeUserImage(customer.getId(), registerDto.img());
 
+            floraMetrics.registered("customer");
             return "Customer successfully registered.";
         }
         else if("admin".equalsIgnoreCase(accountType)) {
@@ -126,17 +147,11 @@ public class AuthService {
                     LocalDate.now()
             );
 
-            if(registerDto.img() != null && !registerDto.img().isEmpty()) {
-                try {
-                    admin.setImg(registerDto.img().getBytes());
-                } catch (IOException e) {
-                    throw new RuntimeException("Failed to process image");
-                }
-            }
-
             admin.addRole(role);
             adminDao.save(admin);
+            storeUserImage(admin.getId(), registerDto.img());
 
+            floraMetrics.registered("admin");
             return "Admin successfully registered.";
         }
         else if ("bankuser".equalsIgnoreCase(accountType)) {
@@ -161,17 +176,11 @@ public class AuthService {
                     registerDto.amount() != null ? registerDto.amount() : BigDecimal.valueOf(0)
             );
 
-            if(registerDto.img() != null && !registerDto.img().isEmpty()) {
-                try {
-                    payment.setImg(registerDto.img().getBytes());
-                } catch (IOException e) {
-                    throw new RuntimeException("Failed to process image");
-                }
-            }
-
             payment.addRole(role);
             paymentAccountDao.save(payment);
+            storeUserImage(payment.getId(), registerDto.img());
 
+            floraMetrics.registered("bankuser");
             return "Bank User successfully registered.";
         }
         else {
@@ -186,6 +195,7 @@ public class AuthService {
     }
 
 
+    @Transactional(readOnly = true)
     public UserProfileDto getUserProfileByUsername(String username) {
         User user = userDao.findByUsernameOrEmail(username)
                 .orElseThrow(() -> new NotFoundException("User not found with username: " + username));
@@ -201,14 +211,32 @@ public class AuthService {
         dto.setLastName(user.getLastName());
         dto.setPhone(user.getPhone());
         dto.setCreatedAt(user.getCreatedAt());
+        userAvatarDao.findInfoByUserId(user.getId())
+                .map(AuthService::avatarUrl)
+                .ifPresent(dto::setAvatarUrl);
+        return dto;
+    }
 
-        // Convert byte[] image to Base64 string
-        if (user.getImg() != null && user.getImg().length > 0) {
-            String base64Image = Base64.getEncoder().encodeToString(user.getImg());
-            dto.setImg(base64Image);
-        }
+    // The hash in the query string changes with the image, so browsers can cache each URL for good
+    private static String avatarUrl(AvatarInfo avatar) {
+        return "/api/user/%d/avatar?v=%s".formatted(avatar.userId(), avatarVersion(avatar));
+    }
 
-        return dto;
+    public static String avatarVersion(AvatarInfo avatar) {
+        return avatar.sha256().substring(0, 16);
+    }
+
+    @Transactional(readOnly = true)
+    public AvatarInfo getAvatar(Long userId) {
+        return userAvatarDao.findInfoByUserId(userId)
+                .orElseThrow(() -> new NotFoundException("No avatar for user with id: " + userId));
+    }
+
+    public void writeAvatar(AvatarInfo avatar, OutputStream out) throws IOException {
+        if (!imageStore.copyUserImage(avatar.userId(), avatar.sha256(), out)) {
+            // Replaced after the headers went out; abort rather than send the new image under the old ETag
+            throw new IOException("Avatar of user %d changed while it was being sent".formatted(avatar.userId()));
+        }
     }
 
     @Transactional
@@ -218,6 +246,8 @@ public class AuthService {
 
         updateCommonFields(existingUser, registerDto);
 
+        eventPublisher.publishEvent(new UserChangedEvent(existingUser.getId()));
+
         if (existingUser instanceof PaymentAccount paymentAccount) {
             updateBankFields(paymentAccount, registerDto);
             userDao.save(paymentAccount);
@@ -261,12 +291,16 @@ public class AuthService {
             existingUser.setLastName(registerDto.lastName());
         }
 
-        if (registerDto.img() != null && !registerDto.img().isEmpty()) {
-            try {
-                existingUser.setImg(registerDto.img().getBytes());
-            } catch (IOException e) {
-                throw new RuntimeException("Failed to process image");
-            }
+        storeUserImage(existingUser.getId(), registerDto.img());
+    }
+
+    // Spooled to disk, checked and streamed into the saved row instead of copied onto the heap
+    private void storeUserImage(long userId, MultipartFile img) {
+        if (img == null || img.isEmpty()) {
+            return;
+        }
+        try (SpooledImage image = imageSpooler.spool(img)) {
+            imageStore.storeUserImage(userId, image);
         }
     }
 
@@ -293,13 +327,11 @@ public class AuthService {
                 names.append(Character.toUpperCase(c));
             }
         }
-        SecureRandom random = new SecureRandom();
-        long num = (random.nextInt(100000) + 100000);
-        // 1 - 99999
+        // The generated suffix alone is unique, even for users with the same name
         return new StringBuilder()
                 .append("Z")
                 .append(names.toString())
-                .append(num)
+                .append(idGenerator.nextCode())
                 .toString();
     }
 
@@ -323,6 +355,7 @@ public class AuthService {
 
         currentUser.setPassword(passwordEncoder.encode(request.getNewPassword()));
         userDao.save(currentUser);
+        eventPublisher.publishEvent(new UserChangedEvent(currentUser.getId()));
 
         return "Password changed successfully";
     }
@@ -349,9 +382,9 @@ public class AuthService {
         return code;
     }
 
+    // OTPs must be unpredictable rather than unique, so they stay random
     private String generateOtp() {
-        SecureRandom random = new SecureRandom();
-        int code = random.nextInt(1000) + 1000;
+        int code = OTP_RANDOM.nextInt(9000) + 1000;
         return new StringBuilder().append(code).toString();
     }
 
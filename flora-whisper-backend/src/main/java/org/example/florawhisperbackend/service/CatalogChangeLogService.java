@@ -0,0 +1,179 @@
+package org.example.florawhisperbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.florawhisperbackend.config.ReadRouting;
+import org.example.florawhisperbackend.dao.CatalogChangeDao;
+import org.example.florawhisperbackend.dao.CategoryDao;
+import org.example.florawhisperbackend.dao.PlantDao;
+import org.example.florawhisperbackend.dto.FloraDto.CatalogChangeDto;
+import org.example.florawhisperbackend.dto.FloraDto.CatalogChangesDto;
+import org.example.florawhisperbackend.dto.FloraDto.CategoryDto;
+import org.example.florawhisperbackend.dto.FloraDto.FlowerMeaningResponseDto;
+import org.example.florawhisperbackend.entity.CatalogChange;
+import org.example.florawhisperbackend.entity.CatalogChangeType;
+import org.example.florawhisperbackend.entity.Category;
+import org.example.florawhisperbackend.entity.Plant;
+import org.example.florawhisperbackend.event.CatalogChangedEvent;
+import org.example.florawhisperbackend.event.CatalogChangedEvent.CatalogResource;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Change log behind catalog delta sync. Every {@link CatalogChangedEvent} appends an entry in the
+ * transaction that made the change, so rolled-back changes are never logged.
+ * <p>
+ * Sequence numbers are assigned at insert but become visible at commit, and commits can land out
+ * of order. Readers get entries in sequence order up to the first one younger than the settle
+ * time; by then every lower sequence number has committed or rolled back, so a client cursor
+ * never skips an entry. Compaction removes entries superseded by a newer one for the same row or
+ * by a later resync of their resource; the latest state of every row stays in the log, so old
+ * cursors remain valid.
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogChangeLogService implements InitializingBean {
+
+    private static final int MAX_LIMIT = 1000;
+    private static final int COMPACT_BATCH_SIZE = 1000;
+
+    private final CatalogChangeDao catalogChangeDao;
+    private final CategoryDao categoryDao;
+    private final PlantDao plantDao;
+    private final FlowerMeaningViewService flowerMeaningViewService;
+    private final FloraMapper floraMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.catalog-changes.settle-time:2s}")
+    private Duration settleTime;
+
+    private TransactionTemplate readTransaction;
+    private TransactionTemplate writeTransaction;
+
+    private record RowKey(CatalogResource resource, Long id) {}
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void append(CatalogChangedEvent event) {
+        // Logged by the instance that made the change
+        if (event.remote()) {
+            return;
+        }
+        CatalogChangeType type = event.id() == null ? CatalogChangeType.RESYNC
+                : event.deleted() ? CatalogChangeType.DELETE
+                : CatalogChangeType.UPSERT;
+        catalogChangeDao.save(new CatalogChange(event.resource(), event.id(), type, Instant.now()));
+    }
+
+    public CatalogChangesDto changesSince(long since, int limit) {
+        int pageSize = Math.clamp(limit, 1, MAX_LIMIT);
+        // A replica applies commits in commit order, not sequence order, so the settle rule only holds on the primary
+        return ReadRouting.fromPrimary(() -> readTransaction.execute(status -> readChanges(since, pageSize)));
+    }
+
+    // Deletes in batches, each in its own transaction, so compaction never holds many row locks at once
+    @Scheduled(fixedDelayString = "${app.catalog-changes.compact-interval-ms:600000}")
+    public void compact() {
+        for (CatalogResource resource : CatalogResource.values()) {
+            Long latestResync = catalogChangeDao.findLatestIdByResourceAndType(resource, CatalogChangeType.RESYNC);
+            long latestResyncId = latestResync != null ? latestResync : 0;
+            long after = 0;
+            List<Long> superseded;
+            do {
+                long from = after;
+                superseded = catalogChangeDao.findSupersededIds(resource, latestResyncId, from, Limit.of(COMPACT_BATCH_SIZE));
+                if (!superseded.isEmpty()) {
+                    List<Long> ids = superseded;
+                    writeTransaction.executeWithoutResult(status -> catalogChangeDao.deleteByIdIn(ids));
+                    after = superseded.getLast();
+                }
+            } while (superseded.size() == COMPACT_BATCH_SIZE);
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    private CatalogChangesDto readChanges(long since, int pageSize) {
+        // Timestamps come from each writer's clock before the insert, so they are not ordered by id;
+        // stop at the first unsettled entry rather than skipping it
+        Instant settledBefore = Instant.now().minus(settleTime);
+        List<CatalogChange> fetched = catalogChangeDao.findByIdGreaterThanOrderByIdAsc(since, Limit.of(pageSize + 1));
+        List<CatalogChange> entries = new ArrayList<>(Math.min(fetched.size(), pageSize));
+        for (CatalogChange entry : fetched) {
+            if (entries.size() == pageSize || !entry.getChangedAt().isBefore(settledBefore)) {
+                break;
+            }
+            entries.add(entry);
+        }
+        boolean hasMore = entries.size() == pageSize && fetched.size() > pageSize;
+        long nextSince = entries.isEmpty() ? since : entries.getLast().getId();
+
+        // Only the newest entry per row is sent; a resync replaces everything before it for its resource
+        Map<RowKey, CatalogChange> latest = new LinkedHashMap<>();
+        for (CatalogChange entry : entries) {
+            if (entry.getType() == CatalogChangeType.RESYNC) {
+                latest.keySet().removeIf(key -> key.resource() == entry.getResource());
+            }
+            RowKey key = new RowKey(entry.getResource(), entry.getEntityId());
+            latest.remove(key);
+            latest.put(key, entry);
+        }
+
+        Map<Long, Object> plants = upsertData(latest.values(), CatalogResource.PLANT, ids ->
+                plantDao.findAllById(ids).stream().collect(Collectors.toMap(Plant::getId, floraMapper::toPlantChangeDto)));
+        Map<Long, Object> categories = upsertData(latest.values(), CatalogResource.CATEGORY, ids ->
+                categoryDao.findAllById(ids).stream().collect(Collectors.toMap(Category::getId,
+                        category -> new CategoryDto(category.getId(), category.getCategoryName()))));
+        Map<Long, Object> flowerMeanings = upsertData(latest.values(), CatalogResource.FLOWER_MEANING, ids ->
+                flowerMeaningViewService.findAllById(ids).stream()
+                        .collect(Collectors.toMap(FlowerMeaningResponseDto::id, Function.identity())));
+
+        List<CatalogChangeDto> changes = new ArrayList<>(latest.size());
+        for (CatalogChange entry : latest.values()) {
+            CatalogChangeType type = entry.getType();
+            Object data = null;
+            if (type == CatalogChangeType.UPSERT) {
+                data = switch (entry.getResource()) {
+                    case PLANT -> plants.get(entry.getEntityId());
+                    case CATEGORY -> categories.get(entry.getEntityId());
+                    case FLOWER_MEANING -> flowerMeanings.get(entry.getEntityId());
+                };
+                // Removed after this entry was written; its delete entry is later in the log
+                if (data == null) {
+                    type = CatalogChangeType.DELETE;
+                }
+            }
+            changes.add(new CatalogChangeDto(entry.getId(), entry.getResource(), entry.getEntityId(), type, data));
+        }
+        return new CatalogChangesDto(nextSince, hasMore, changes);
+    }
+
+    private static Map<Long, Object> upsertData(Collection<CatalogChange> entries, CatalogResource resource,
+                                                Function<List<Long>, Map<Long, ?>> loader) {
+        List<Long> ids = entries.stream()
+                .filter(entry -> entry.getResource() == resource && entry.getType() == CatalogChangeType.UPSERT)
+                .map(CatalogChange::getEntityId)
+                .toList();
+        return ids.isEmpty() ? Map.of() : Map.copyOf(loader.apply(ids));
+    }
+}
@@ -0,0 +1,522 @@
+package org.example.florawhisperbackend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.florawhisperbackend.dao.CategoryDao;
+import org.example.florawhisperbackend.dao.PlantDao;
+import org.example.florawhisperbackend.dto.FloraDto.CatalogImportReport;
+import org.example.florawhisperbackend.dto.FloraDto.CatalogImportRow;
+import org.example.florawhisperbackend.entity.Category;
+import org.example.florawhisperbackend.entity.Color;
+import org.example.florawhisperbackend.event.CatalogChangedEvent;
+import org.example.florawhisperbackend.event.CatalogChangedEvent.CatalogResource;
+import org.example.florawhisperbackend.exception.InvalidImageException;
+import org.example.florawhisperbackend.upload.ImageSpooler;
+import org.example.florawhisperbackend.upload.SpooledImage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Imports plants in bulk from CSV or NDJSON. Input is parsed one row at a time and written in
+ * chunks. Each chunk resolves its duplicate check with one query and is inserted with JDBC
+ * batches in its own transaction, so a failure in a later chunk keeps earlier chunks. Bad rows
+ * are skipped and reported by row number.
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogImportService {
+
+    private static final int CHUNK_SIZE = 1000;
+    // Chunks are also cut once their images reach this size, bounding the spooled images per chunk
+    private static final long CHUNK_IMAGE_BYTES = 16L * 1024 * 1024;
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final String FLOWER_CATEGORY = "blooms";
+    private static final String INDOOR_PLANT_CATEGORY = "greenery";
+
+    private static final String INSERT_PLANT = "INSERT INTO plant (plant_type, name, description, price, stock, "
+            + "image_url, image_sha256, update_price, category_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_FLOWER = "INSERT INTO flower (id, color, piece) VALUES (?, ?, ?)";
+    private static final String INSERT_INDOOR_PLANT = "INSERT INTO indoor_plant (id, plant_size, is_easy_to_care, "
+            + "care_instructions) VALUES (?, ?, ?, ?)";
+
+    private final CategoryDao categoryDao;
+    private final PlantDao plantDao;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ImageSpooler imageSpooler;
+
+    @Value("${app.catalog-import.image-dir:}")
+    private String imageDirectory;
+
+    @Value("${app.catalog-import.image-hosts:}")
+    private List<String> imageHosts;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            // A redirect could lead to an address the pre-flight check never saw
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+
+    private record PendingPlant(long rowNumber, CatalogImportRow row, Category category, SpooledImage image) {}
+
+    @FunctionalInterface
+    private interface RowReader {
+        // Returns null at end of input
+        CatalogImportRow read() throws IOException;
+    }
+
+    private static final class ImportState {
+        private final Map<String, Category> categories = new HashMap<>();
+        private final Set<String> seenKeys = new HashSet<>();
+        private final List<PendingPlant> chunk = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+        private long chunkImageBytes;
+        private long rows;
+        private long imported;
+        private long duplicates;
+        private long failed;
+        private boolean categoriesCreated;
+    }
+
+    public CatalogImportReport importPlants(InputStream input, String format) throws IOException {
+        long started = System.nanoTime();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        RowReader rows = switch (format.toLowerCase(Locale.ROOT)) {
+            case "csv" -> csvRowReader(reader);
+            case "ndjson" -> ndjsonRowReader(reader);
+            default -> throw new IllegalArgumentException("Unsupported import format: " + format);
+        };
+
+        ImportState state = new ImportState();
+        categoryDao.findAll().forEach(category ->
+                state.categories.put(category.getCategoryName().toLowerCase(Locale.ROOT), category));
+
+        try {
+            while (true) {
+                CatalogImportRow row;
+                try {
+                    row = rows.read();
+                } catch (IllegalArgumentException e) {
+                    rejectRow(state, ++state.rows, e.getMessage());
+                    continue;
+                }
+                if (row == null) {
+                    break;
+                }
+                state.rows++;
+                try {
+                    PendingPlant pending = prepare(state, state.rows, row);
+                    if (pending != null) {
+                        state.chunk.add(pending);
+                        state.chunkImageBytes += pending.image() != null ? pending.image().size() : 0;
+                    }
+                } catch (IllegalArgumentException e) {
+                    rejectRow(state, state.rows, e.getMessage());
+                }
+                if (state.chunk.size() >= CHUNK_SIZE || state.chunkImageBytes >= CHUNK_IMAGE_BYTES) {
+                    flush(state);
+                }
+            }
+            flush(state);
+        } finally {
+            // Left over only when reading the input failed part-way
+            discardImages(state.chunk);
+        }
+
+        if (state.categoriesCreated) {
+            eventPublisher.publishEvent(new CatalogChangedEvent(CatalogResource.CATEGORY, null));
+        }
+        if (state.imported > 0) {
+            eventPublisher.publishEvent(new CatalogChangedEvent(CatalogResource.PLANT, null));
+        }
+        return new CatalogImportReport(state.rows, state.imported, state.duplicates, state.failed,
+                state.errors, Duration.ofNanos(System.nanoTime() - started).toMillis());
+    }
+
+    private PendingPlant prepare(ImportState state, long rowNumber, CatalogImportRow row) {
+        if (row.name() == null || row.name().isBlank()) {
+            throw new IllegalArgumentException("name is required");
+        }
+        if (row.category() == null || row.category().isBlank()) {
+            throw new IllegalArgumentException("category is required");
+        }
+        String categoryName = row.category().trim().toLowerCase(Locale.ROOT);
+        if (!categoryName.equals(FLOWER_CATEGORY) && !categoryName.equals(INDOOR_PLANT_CATEGORY)) {
+            throw new IllegalArgumentException("Invalid plant type: " + row.category());
+        }
+
+        // Duplicates within the file are caught here; against the database, per chunk
+        if (!state.seenKeys.add(categoryName + ":" + row.name().trim().toLowerCase(Locale.ROOT))) {
+            state.duplicates++;
+            return null;
+        }
+        Category category = state.categories.computeIfAbsent(categoryName, name ->
+                transactionTemplate.execute(status -> {
+                    state.categoriesCreated = true;
+                    return categoryDao.save(new Category(row.category().trim()));
+                }));
+        try {
+            return new PendingPlant(rowNumber, row, category, resolveImage(row.image()));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not read image " + row.image() + ": " + e.getMessage());
+        } catch (InvalidImageException e) {
+            throw new IllegalArgumentException("Image " + row.image() + " rejected: " + e.getReason());
+        }
+    }
+
+    private void flush(ImportState state) {
+        if (state.chunk.isEmpty()) {
+            return;
+        }
+        List<PendingPlant> chunk = new ArrayList<>(state.chunk);
+        state.chunk.clear();
+        state.chunkImageBytes = 0;
+        try {
+            insertFresh(state, chunk);
+        } finally {
+            discardImages(chunk);
+        }
+    }
+
+    private static void discardImages(List<PendingPlant> plants) {
+        plants.stream().map(PendingPlant::image).filter(Objects::nonNull).forEach(SpooledImage::close);
+    }
+
+    private void insertFresh(ImportState state, List<PendingPlant> chunk) {
+        Set<String> existing = new HashSet<>();
+        plantDao.findKeysByNameIn(chunk.stream().map(pending -> pending.row().name().trim()).toList())
+                .forEach(key -> existing.add(key.getCategoryId() + ":" + key.getName().toLowerCase(Locale.ROOT)));
+        List<PendingPlant> fresh = chunk.stream()
+                .filter(pending -> !existing.contains(
+                        pending.category().getId() + ":" + pending.row().name().trim().toLowerCase(Locale.ROOT)))
+                .toList();
+        state.duplicates += chunk.size() - fresh.size();
+        if (fresh.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                        insertChunk(connection, fresh);
+                        return null;
+                    }));
+            state.imported += fresh.size();
+        } catch (RuntimeException e) {
+            state.failed += fresh.size();
+            addError(state, "Rows %d-%d failed: %s".formatted(
+                    fresh.get(0).rowNumber(), fresh.get(fresh.size() - 1).rowNumber(), e.getMessage()));
+        }
+    }
+
+    private void insertChunk(Connection connection, List<PendingPlant> plants) throws SQLException {
+        long[] ids = new long[plants.size()];
+        // Image streams are read when the batch executes, so they stay open until then
+        List<InputStream> images = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_PLANT, Statement.RETURN_GENERATED_KEYS)) {
+            for (PendingPlant pending : plants) {
+                CatalogImportRow row = pending.row();
+                statement.setString(1, isFlower(pending) ? "FLOWER" : "INDOOR_PLANT");
+                statement.setString(2, row.name().trim());
+                statement.setString(3, row.description());
+                statement.setDouble(4, row.price() != null ? row.price() : 0);
+                statement.setInt(5, row.stock() != null ? row.stock() : 0);
+                if (pending.image() != null) {
+                    InputStream image = openImage(pending.image());
+                    images.add(image);
+                    statement.setBinaryStream(6, image, pending.image().size());
+                    statement.setString(7, pending.image().sha256());
+                } else {
+                    statement.setNull(6, Types.BLOB);
+                    statement.setNull(7, Types.VARCHAR);
+                }
+                statement.setDouble(8, row.updatePrice() != null ? row.updatePrice() : 0);
+                statement.setLong(9, pending.category().getId());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+            try (ResultSet keys = statement.getGeneratedKeys()) {
+                int i = 0;
+                while (keys.next() && i < ids.length) {
+                    ids[i++] = keys.getLong(1);
+                }
+                if (i != ids.length) {
+                    throw new IllegalStateException("Driver returned %d generated keys for %d plants".formatted(i, ids.length));
+                }
+            }
+        } finally {
+            images.forEach(CatalogImportService::closeQuietly);
+        }
+
+        try (PreparedStatement flowers = connection.prepareStatement(INSERT_FLOWER);
+             PreparedStatement indoorPlants = connection.prepareStatement(INSERT_INDOOR_PLANT)) {
+            for (int i = 0; i < plants.size(); i++) {
+                CatalogImportRow row = plants.get(i).row();
+                if (isFlower(plants.get(i))) {
+                    flowers.setLong(1, ids[i]);
+                    flowers.setString(2, row.color() != null ? row.color().name() : null);
+                    flowers.setInt(3, row.piece() != null ? row.piece() : 0);
+                    flowers.addBatch();
+                } else {
+                    indoorPlants.setLong(1, ids[i]);
+                    indoorPlants.setString(2, row.plantSize());
+                    indoorPlants.setObject(3, row.isEasyToCare(), Types.BOOLEAN);
+                    indoorPlants.setString(4, row.careInstructions());
+                    indoorPlants.addBatch();
+                }
+            }
+            flowers.executeBatch();
+            indoorPlants.executeBatch();
+        }
+    }
+
+    private boolean isFlower(PendingPlant pending) {
+        return FLOWER_CATEGORY.equalsIgnoreCase(pending.category().getCategoryName());
+    }
+
+    // Accepts data: URIs, http(s) URLs, or file names relative to app.catalog-import.image-dir. Every
+    // image is spooled, so the upload size limit and format check apply to all three.
+    private SpooledImage resolveImage(String reference) throws IOException {
+        if (reference == null || reference.isBlank()) {
+            return null;
+        }
+        String ref = reference.trim();
+        if (ref.startsWith("data:")) {
+            byte[] encoded = ref.substring(ref.indexOf(',') + 1).getBytes(StandardCharsets.US_ASCII);
+            return imageSpooler.spool(Base64.getDecoder().wrap(new ByteArrayInputStream(encoded)));
+        }
+        if (ref.startsWith("http://") || ref.startsWith("https://")) {
+            return fetchImage(URI.create(ref));
+        }
+        if (imageDirectory.isBlank()) {
+            throw new IllegalArgumentException("Image file references need app.catalog-import.image-dir");
+        }
+        Path root = Path.of(imageDirectory).toAbsolutePath().normalize();
+        Path file = root.resolve(ref).normalize();
+        if (!file.startsWith(root) || !Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("Image not found: " + ref);
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            return imageSpooler.spool(in);
+        }
+    }
+
+    private SpooledImage fetchImage(URI uri) throws IOException {
+        checkAllowedHost(uri);
+        checkPublicHost(uri);
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(10)).build();
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            try (InputStream body = response.body()) {
+                if (response.statusCode() != 200) {
+                    throw new IllegalArgumentException("Image %s returned HTTP %d".formatted(uri, response.statusCode()));
+                }
+                return imageSpooler.spool(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while fetching image " + uri, e);
+        }
+    }
+
+    // The HTTP client resolves the host again, so a DNS answer that changes after checkPublicHost
+    // could still reach an internal address; only hosts the operator trusts are fetched at all
+    private void checkAllowedHost(URI uri) {
+        String host = uri.getHost();
+        if (host == null) {
+            throw new IllegalArgumentException("Image URL has no host: " + uri);
+        }
+        if (imageHosts.stream().map(String::trim).noneMatch(host::equalsIgnoreCase)) {
+            throw new IllegalArgumentException("Image host is not in app.catalog-import.image-hosts: " + host);
+        }
+    }
+
+    // Import files come from outside; keep their URLs away from the actuator port, cloud metadata and the database
+    private static void checkPublicHost(URI uri) throws IOException {
+        for (InetAddress address : InetAddress.getAllByName(uri.getHost())) {
+            if (address.isLoopbackAddress() || address.isLinkLocalAddress() || address.isSiteLocalAddress()
+                    || address.isAnyLocalAddress() || address.isMulticastAddress() || isUniqueLocal(address)) {
+                throw new IllegalArgumentException("Image URL points to a non-public address: " + uri);
+            }
+        }
+    }
+
+    // fc00::/7, the IPv6 counterpart of the private IPv4 ranges
+    private static boolean isUniqueLocal(InetAddress address) {
+        return address instanceof Inet6Address && (address.getAddress()[0] & 0xFE) == 0xFC;
+    }
+
+    private static InputStream openImage(SpooledImage image) throws SQLException {
+        try {
+            return image.open();
+        } catch (IOException e) {
+            throw new SQLException("Could not read spooled image", e);
+        }
+    }
+
+    private static void closeQuietly(InputStream in) {
+        try {
+            in.close();
+        } catch (IOException e) {
+            System.err.println("Could not close spooled image: " + e.getMessage());
+        }
+    }
+
+    private void rejectRow(ImportState state, long rowNumber, String message) {
+        state.failed++;
+        addError(state, "Row %d: %s".formatted(rowNumber, message));
+    }
+
+    private void addError(ImportState state, String error) {
+        if (state.errors.size() < MAX_REPORTED_ERRORS) {
+            state.errors.add(error);
+        }
+    }
+
+    private RowReader ndjsonRowReader(BufferedReader reader) {
+        return () -> {
+            String line;
+            do {
+                line = reader.readLine();
+            } while (line != null && line.isBlank());
+            if (line == null) {
+                return null;
+            }
+            try {
+                return objectMapper.readValue(line, CatalogImportRow.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Malformed JSON: " + e.getOriginalMessage());
+            }
+        };
+    }
+
+    private RowReader csvRowReader(BufferedReader reader) throws IOException {
+        List<String> header = readCsvRecord(reader);
+        if (header == null) {
+            return () -> null;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+
+        return () -> {
+            List<String> record;
+            do {
+                record = readCsvRecord(reader);
+            } while (record != null && record.size() == 1 && record.get(0).isBlank());
+            if (record == null) {
+                return null;
+            }
+            return new CatalogImportRow(
+                    field(record, columns, "name"),
+                    field(record, columns, "description"),
+                    parse(field(record, columns, "price"), Double::valueOf),
+                    parse(field(record, columns, "stock"), Integer::valueOf),
+                    parse(field(record, columns, "updateprice"), Double::valueOf),
+                    field(record, columns, "category"),
+                    parse(field(record, columns, "color"), value -> Color.valueOf(value.toUpperCase(Locale.ROOT))),
+                    parse(field(record, columns, "piece"), Integer::valueOf),
+                    field(record, columns, "plantsize"),
+                    parse(field(record, columns, "iseasytocare"), Boolean::valueOf),
+                    field(record, columns, "careinstructions"),
+                    field(record, columns, "image")
+            );
+        };
+    }
+
+    private String field(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size() || record.get(index).isBlank()) {
+            return null;
+        }
+        return record.get(index);
+    }
+
+    private <T> T parse(String value, Function<String, T> parser) {
+        return value != null ? parser.apply(value.trim()) : null;
+    }
+
+    // RFC 4180 record: quoted fields may contain commas, doubled quotes and line breaks
+    private List<String> readCsvRecord(BufferedReader reader) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean read = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            read = true;
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        if (!read) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.florawhisperbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.florawhisperbackend.event.CheckoutCompletedEvent;
+import org.example.florawhisperbackend.util.LongIntHashMap;
+import org.example.florawhisperbackend.util.LongObjectHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * "Frequently bought together" recommendations from a sparse, symmetric co-purchase matrix kept
+ * in memory. Each row counts, for one plant, how many orders also contained each other plant.
+ * Completed checkouts update the affected rows in place and mark them dirty; a row's top-N list
+ * is only recomputed the next time it is read.
+ */
+@Service
+@RequiredArgsConstructor
+public class CoPurchaseService {
+
+    // Very large baskets add little signal but quadratic work
+    private static final int MAX_BASKET_SIZE = 50;
+    private static final int REBUILD_FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.recommendations.top-n:20}")
+    private int topN;
+
+    private LongObjectHashMap<Row> rows = new LongObjectHashMap<>();
+
+    public record Related(long plantId, int count) {}
+
+    private static final class Row {
+        private final LongIntHashMap counts = new LongIntHashMap();
+        private long[] topIds = new long[0];
+        private int[] topCounts = new int[0];
+        private boolean dirty;
+    }
+
+    @TransactionalEventListener
+    public void onCheckoutCompleted(CheckoutCompletedEvent event) {
+        long[] basket = event.plantQuantities().keySet().stream().mapToLong(Long::longValue).toArray();
+        synchronized (this) {
+            addBasket(rows, basket);
+        }
+    }
+
+    public synchronized List<Related> related(long plantId, int limit) {
+        Row row = rows.get(plantId);
+        if (row == null) {
+            return List.of();
+        }
+        if (row.dirty) {
+            recomputeTop(row);
+        }
+        int n = Math.max(0, Math.min(limit, row.topIds.length));
+        Related[] related = new Related[n];
+        for (int i = 0; i < n; i++) {
+            related[i] = new Related(row.topIds[i], row.topCounts[i]);
+        }
+        return Arrays.asList(related);
+    }
+
+    /**
+     * Rebuilds the matrix from every order line, reading them in checkout order so only one
+     * basket is held at a time. The new matrix replaces the old one in a single swap; checkouts
+     * completed during the scan may be missed until the next rebuild.
+     */
+    public String rebuild() {
+        LongObjectHashMap<Row> rebuilt = new LongObjectHashMap<>();
+        long[] basket = new long[MAX_BASKET_SIZE];
+        long[] state = {-1, 0}; // current checkout id, basket size
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "SELECT checkout_id, plant_id FROM order_line ORDER BY checkout_id");
+            // Streams with useCursorFetch (see the datasource URL) instead of buffering every line on the heap
+            statement.setFetchSize(REBUILD_FETCH_SIZE);
+            return statement;
+        }, rs -> {
+            long checkoutId = rs.getLong(1);
+            if (checkoutId != state[0]) {
+                addBasket(rebuilt, Arrays.copyOf(basket, (int) state[1]));
+                state[0] = checkoutId;
+                state[1] = 0;
+            }
+            if (state[1] < MAX_BASKET_SIZE) {
+                basket[(int) state[1]++] = rs.getLong(2);
+            }
+        });
+        addBasket(rebuilt, Arrays.copyOf(basket, (int) state[1]));
+
+        synchronized (this) {
+            rows = rebuilt;
+        }
+        return "Rebuilt co-purchase rows for %d plants.".formatted(rebuilt.size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    private void addBasket(LongObjectHashMap<Row> matrix, long[] basket) {
+        long[] plants = distinct(basket);
+        if (plants.length < 2) {
+            return;
+        }
+        for (long plant : plants) {
+            Row row = matrix.computeIfAbsent(plant, Row::new);
+            for (long other : plants) {
+                if (other != plant) {
+                    row.counts.addTo(other, 1);
+                }
+            }
+            row.dirty = true;
+        }
+    }
+
+    private long[] distinct(long[] basket) {
+        long[] sorted = Arrays.copyOf(basket, Math.min(basket.length, MAX_BASKET_SIZE));
+        Arrays.sort(sorted);
+        int n = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[n++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, n);
+    }
+
+    // Keeps the best topN entries in sorted arrays by insertion; rows are short enough for this
+    private void recomputeTop(Row row) {
+        int capacity = Math.min(topN, row.counts.size());
+        long[] ids = new long[capacity];
+        int[] counts = new int[capacity];
+        int[] filled = {0};
+        if (capacity > 0) {
+            row.counts.forEach((id, count) -> {
+                int n = filled[0];
+                if (n == capacity && !ranksAbove(count, id, counts[n - 1], ids[n - 1])) {
+                    return;
+                }
+                int pos = n == capacity ? n - 1 : n;
+                while (pos > 0 && ranksAbove(count, id, counts[pos - 1], ids[pos - 1])) {
+                    ids[pos] = ids[pos - 1];
+                    counts[pos] = counts[pos - 1];
+                    pos--;
+                }
+                ids[pos] = id;
+                counts[pos] = count;
+                if (n < capacity) {
+                    filled[0]++;
+                }
+            });
+        }
+        row.topIds = ids;
+        row.topCounts = counts;
+        row.dirty = false;
+    }
+
+    // Higher counts first; ties go to the older (lower id) plant so results are stable
+    private static boolean ranksAbove(int count, long id, int otherCount, long otherId) {
+        return count > otherCount || (count == otherCount && id < otherId);
+    }
+}
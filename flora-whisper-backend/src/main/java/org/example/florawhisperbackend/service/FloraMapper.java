@@ -0,0 +1,112 @@
+package org.example.florawhisperbackend.service;
+
+import org.example.florawhisperbackend.dto.CheckoutPlantItemDto;
+import org.example.florawhisperbackend.dto.CheckoutResponseDto;
+import org.example.florawhisperbackend.dto.FloraDto.PlantChangeDto;
+import org.example.florawhisperbackend.dto.PlantDto;
+import org.example.florawhisperbackend.entity.Checkout;
+import org.example.florawhisperbackend.entity.Flower;
+import org.example.florawhisperbackend.entity.IndoorPlant;
+import org.example.florawhisperbackend.entity.OrderLine;
+import org.example.florawhisperbackend.entity.Plant;
+import org.springframework.stereotype.Component;
+
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Entity to DTO mapping for plants and orders; stateless, so benchmarks can use it directly
+@Component
+public class FloraMapper {
+
+    public PlantDto toPlantDto(Plant plant) {
+        PlantDto plantDto = toPlantDtoWithoutImage(plant);
+        plantDto.setImageUrl(plant.getImageUrl() != null
+                ? Base64.getEncoder().encodeToString(plant.getImageUrl())
+                : null);
+        return plantDto;
+    }
+
+    // Delta sync sends the image digest instead of the bytes; clients re-fetch the plant when it changes.
+    // Images stored before the digest column existed have none, which stays stable until they are replaced
+    public PlantChangeDto toPlantChangeDto(Plant plant) {
+        return new PlantChangeDto(toPlantDtoWithoutImage(plant), plant.getImageSha256());
+    }
+
+    private PlantDto toPlantDtoWithoutImage(Plant plant) {
+        PlantDto plantDto = new PlantDto();
+        // Common fields from Plant
+        plantDto.setPlantId(plant.getId());
+        plantDto.setName(plant.getName());
+        plantDto.setDescription(plant.getDescription());
+        plantDto.setPrice(plant.getPrice());
+        plantDto.setStock(plant.getStock());
+        plantDto.setUpdatePrice(plant.getUpdatePrice());
+        plantDto.setCategory(plant.getCategory() != null ? plant.getCategory().getCategoryName() : null);
+
+        // Fields specific to Flower or IndoorPlant
+        if (plant instanceof Flower flower) {
+            plantDto.setColor(flower.getColor());
+            plantDto.setPiece(flower.getPiece());
+            // Set IndoorPlant-specific fields to null
+            plantDto.setPlantSize(null);
+            plantDto.setIsEasyToCare(null);
+            plantDto.setCareInstructions(null);
+        } else if (plant instanceof IndoorPlant indoorPlant) {
+            plantDto.setPlantSize(indoorPlant.getPlantSize());
+            plantDto.setIsEasyToCare(indoorPlant.getIsEasyToCare());
+            plantDto.setCareInstructions(indoorPlant.getCareInstructions());
+            // Set Flower-specific fields to null
+            plantDto.setColor(null);
+            plantDto.setPiece(0);
+        }
+
+        return plantDto;
+    }
+
+    public CheckoutResponseDto toCheckoutResponse(Checkout checkout) {
+        CheckoutResponseDto response = new CheckoutResponseDto();
+        response.setId(checkout.getId());
+        response.setOrderCode(checkout.getOrderCode());
+        response.setOrderDate(checkout.getOrderDate());
+        response.setTotalAmount(checkout.getTotalAmount());
+        response.setTotalItems(checkout.getTotalItems());
+        response.setStatus(checkout.getStatus());
+        response.setShippingAddress(checkout.getShippingAddress());
+        response.setCustomerNotes(checkout.getCustomerNotes());
+        response.setShippingStatus(checkout.getShippingStatus().name());
+        response.setExpectedDeliveryDate(checkout.getExpectedDeliveryDate());
+        response.setPlantQuantities(checkout.getLines().stream()
+                .collect(Collectors.toMap(OrderLine::getPlantId, OrderLine::getQuantity, Integer::sum, LinkedHashMap::new)));
+
+        // Customer info
+        if (checkout.getCustomer() != null) {
+            String name = checkout.getCustomer().getFirstName() + " " + checkout.getCustomer().getLastName();
+            response.setCustomerName(name);
+            response.setCustomerEmail(checkout.getCustomer().getEmail());
+        }
+
+        // Convert order lines
+        List<CheckoutPlantItemDto> plantItems = checkout.getLines().stream()
+                .map(this::toCheckoutPlantItem)
+                .toList();
+        response.setPlants(plantItems);
+
+        return response;
+    }
+
+    private CheckoutPlantItemDto toCheckoutPlantItem(OrderLine line) {
+        CheckoutPlantItemDto item = new CheckoutPlantItemDto();
+        item.setId(line.getPlantId());
+        item.setName(line.getPlantName());
+        item.setPrice(line.getUnitPrice());
+        item.setQuantity(line.getQuantity());
+        item.setCategoryName(line.getCategoryName());
+        item.setPlantType(line.getPlantType());
+        item.setColor(line.getColor());
+        item.setPiece(line.getPiece());
+        item.setPlantSize(line.getPlantSize());
+        return item;
+    }
+}
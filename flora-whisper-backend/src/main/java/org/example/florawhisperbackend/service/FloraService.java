@@ -1,22 +1,37 @@
 package org.example.florawhisperbackend.service;
 
 import io.micrometer.common.util.StringUtils;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.example.florawhisperbackend.dao.*;
 import org.example.florawhisperbackend.dto.*;
 import org.example.florawhisperbackend.dto.FloraDto.*;
 import org.example.florawhisperbackend.entity.*;
+import org.example.florawhisperbackend.event.CatalogChangedEvent;
+import org.example.florawhisperbackend.event.CatalogChangedEvent.CatalogResource;
+import org.example.florawhisperbackend.event.CheckoutCompletedEvent;
+import org.example.florawhisperbackend.event.OrderStatusChangedEvent;
 import org.example.florawhisperbackend.exception.AlreadyExistException;
 import org.example.florawhisperbackend.exception.InsufficientException;
 import org.example.florawhisperbackend.exception.NotFoundException;
+import org.example.florawhisperbackend.exception.PaymentFailedException;
+import org.example.florawhisperbackend.metrics.FloraMetrics;
+import org.example.florawhisperbackend.upload.ImageSpooler;
+import org.example.florawhisperbackend.upload.ImageStore;
+import org.example.florawhisperbackend.upload.ResumableUploadService;
+import org.example.florawhisperbackend.upload.SpooledImage;
+import org.example.florawhisperbackend.util.SnowflakeIdGenerator;
+import org.example.florawhisperbackend.util.SpaceSavingSketch.Estimate;
 import org.springframework.beans.BeanUtils;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
-import java.security.SecureRandom;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,16 +41,30 @@ public class FloraService {
     private final FlowerDao flowerDao;
     private final IndoorPlantDao indoorPlantDao;
     private final FlowerMeaningDao flowerMeaningDao;
+    private final FlowerMeaningViewService flowerMeaningViewService;
     private final CustomerDao customerDao;
     private final CheckoutDao checkoutDao;
     private final PlantDao plantDao;
     private final PaymentAccountInterface paymentService;
+    private final SalesRollupService salesRollupService;
+    private final TrendingService trendingService;
+    private final GiftFinderService giftFinderService;
+    private final CoPurchaseService coPurchaseService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SnowflakeIdGenerator idGenerator;
+    private final FloraMetrics floraMetrics;
+    private final FloraMapper floraMapper;
+    private final ImageSpooler imageSpooler;
+    private final ImageStore imageStore;
+    private final ResumableUploadService resumableUploadService;
 
     // CATEGORY
+    @Transactional(readOnly = true)
     public List<CategoryDto> findAllCategories() {
         return categoryDao.findAll().stream().map(this::toCategoryDto).toList();
     }
 
+    @Transactional(readOnly = true)
     public CategoryDto findCategoryById(Long id) {
         Category category = categoryDao.findById(id).orElse(null);
         if (Objects.isNull(category)) {
@@ -50,6 +79,7 @@ public class FloraService {
         }
         Category category = new Category(categoryName);
         categoryDao.save(category);
+        publishCatalogChange(CatalogResource.CATEGORY, category.getId());
         return "Category %s successfully created!".formatted(categoryName);
     }
 
@@ -60,39 +90,54 @@ public class FloraService {
         }
         category.setId(id);
         category.setCategoryName(categoryName);
-        return toCategoryDto(categoryDao.save(category));
+        Category savedCategory = categoryDao.save(category);
+        publishCatalogChange(CatalogResource.CATEGORY, id);
+        return toCategoryDto(savedCategory);
     }
 
     private CategoryDto toCategoryDto(Category category) {
         return new CategoryDto(category.getId(), category.getCategoryName());
     }
 
+    // Delivered after commit to the response caches
+    private void publishCatalogChange(CatalogResource resource, Long id) {
+        eventPublisher.publishEvent(new CatalogChangedEvent(resource, id));
+    }
+
+    private void publishCatalogDeletion(CatalogResource resource, long id) {
+        eventPublisher.publishEvent(new CatalogChangedEvent(resource, id, true));
+    }
+
     // PLANTS
 
+    @Transactional(readOnly = true)
     public List<PlantDto> findAllPlants() {
         return plantDao.findAll().stream()
-                .map(this::toPlantDto)
+                .map(floraMapper::toPlantDto)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public List<PlantDto> findPlantsByCategoryId(long categoryId) {
         return plantDao.findByCategoryId(categoryId).stream()
-                .map(this::toPlantDto)
+                .map(floraMapper::toPlantDto)
                 .toList();
     }
 
+    @Transactional(readOnly = true)
     public PlantDto findPlantById(long id) {
         Plant plant = plantDao.findById(id).orElseThrow(() -> new NotFoundException("Plant not found with id: " + id));
-        return toPlantDto(plant);
+        return floraMapper.toPlantDto(plant);
     }
 
     @Transactional
-    public String createPlant(PlantCreateDto plantCreateDto) throws IOException {
+    public String createPlant(PlantCreateDto plantCreateDto, String uploader) throws IOException {
         Category category = categoryDao.findByCategoryName(plantCreateDto.getCategory()).orElse(null);
         if (category == null) {
             category = new Category();
             category.setCategoryName(plantCreateDto.getCategory());
             categoryDao.save(category); // Save new category if it doesn't exist
+            publishCatalogChange(CatalogResource.CATEGORY, category.getId());
         }
 
         if (plantDao.findByCategoryNameAndName(category.getCategoryName(), plantCreateDto.getName()).isPresent()) {
@@ -107,7 +152,6 @@ public class FloraService {
             flower.setPrice(plantCreateDto.getPrice());
             flower.setStock(plantCreateDto.getStock());
             flower.setUpdatePrice(plantCreateDto.getUpdatePrice());
-            flower.setImageUrl(plantCreateDto.getImageUrl().getBytes());
             flower.setColor(plantCreateDto.getColor());
             flower.setPiece(plantCreateDto.getPiece());
             plant = flower;
@@ -118,7 +162,6 @@ public class FloraService {
             indoorPlant.setPrice(plantCreateDto.getPrice());
             indoorPlant.setStock(plantCreateDto.getStock());
             indoorPlant.setUpdatePrice(plantCreateDto.getUpdatePrice());
-            indoorPlant.setImageUrl(plantCreateDto.getImageUrl().getBytes());
             indoorPlant.setPlantSize(plantCreateDto.getPlantSize());
             indoorPlant.setIsEasyToCare(plantCreateDto.getIsEasyToCare());
             indoorPlant.setCareInstructions(plantCreateDto.getCareInstructions());
@@ -130,11 +173,13 @@ public class FloraService {
         plant.setCategory(category);
         category.addPlant(plant);
         plantDao.save(plant);
+        storePlantImage(plant.getId(), plantCreateDto, uploader);
+        publishCatalogChange(CatalogResource.PLANT, plant.getId());
         return "Plant %s successfully created!".formatted(plantCreateDto.getName());
     }
 
     @Transactional
-    public String updatePlant(Long plantId, PlantCreateDto plantCreateDto) throws IOException {
+    public String updatePlant(Long plantId, PlantCreateDto plantCreateDto, String uploader) throws IOException {
         Plant existingPlant = plantDao.findById(plantId)
                 .orElseThrow(() -> new NotFoundException("Plant not found with id: " + plantId));
 
@@ -154,10 +199,6 @@ public class FloraService {
         if (plantCreateDto.getUpdatePrice() > 0) {
             existingPlant.setUpdatePrice(plantCreateDto.getUpdatePrice());
         }
-        if (plantCreateDto.getImageUrl() != null && !plantCreateDto.getImageUrl().isEmpty()) {
-            existingPlant.setImageUrl(plantCreateDto.getImageUrl().getBytes());
-        }
-
         // Handle category-specific fields based on current plant type
         if (existingPlant instanceof Flower) {
             Flower flower = (Flower) existingPlant;
@@ -181,12 +222,38 @@ public class FloraService {
         }
 
         plantDao.save(existingPlant);
+        storePlantImage(plantId, plantCreateDto, uploader);
+        publishCatalogChange(CatalogResource.PLANT, plantId);
         return "Plant " + existingPlant.getName() + " successfully updated!";
     }
 
+    // The image goes from a temp file straight into the row; it is never held on the heap for the transaction
+    private void storePlantImage(long plantId, PlantCreateDto plantCreateDto, String uploader) {
+        try (SpooledImage image = spoolPlantImage(plantCreateDto, uploader)) {
+            if (image != null) {
+                imageStore.storePlantImage(plantId, image);
+            }
+        }
+    }
+
+    // A resumable upload can only be used by the user who uploaded it
+    private SpooledImage spoolPlantImage(PlantCreateDto plantCreateDto, String uploader) {
+        if (StringUtils.isNotBlank(plantCreateDto.getImageUploadId())) {
+            return resumableUploadService.take(plantCreateDto.getImageUploadId(), uploader);
+        }
+        if (plantCreateDto.getImageUrl() != null && !plantCreateDto.getImageUrl().isEmpty()) {
+            return imageSpooler.spool(plantCreateDto.getImageUrl());
+        }
+        return null;
+    }
+
+    // Keeps IN lists of bulk status updates at a size every database plans well
+    private static final int STATUS_UPDATE_CHUNK_SIZE = 500;
+
     private static final Long FLOWER_CATEGORY_ID = 1L;
     private static final Long INDOOR_PLANT_CATEGORY_ID = 2L;
 
+    @Transactional(readOnly = true)
     public List<PlantDto> searchPlants(Long categoryId, String color, String name) {
         // Validate inputs
         if (categoryId == null) {
@@ -203,9 +270,11 @@ public class FloraService {
 
         try {
             if (FLOWER_CATEGORY_ID.equals(categoryId)) {
-                return searchFlowers(processedColor, processedName);
+                return floraMetrics.recordSearch("flowers", processedColor != null, processedName != null,
+                        () -> searchFlowers(processedColor, processedName));
             } else {
-                return searchIndoorPlants(processedName);
+                return floraMetrics.recordSearch("indoor", false, processedName != null,
+                        () -> searchIndoorPlants(processedName));
             }
         } catch (Exception e) {
             System.err.println("Error searching plants: " + e.getMessage());
@@ -253,58 +322,56 @@ public class FloraService {
         return convertToDto(results);
     }
 
+    @Transactional(readOnly = true)
+    public List<TrendingPlantDto> findTrendingPlants(TrendingWindow window, int limit) {
+        List<Estimate> estimates = trendingService.top(window, limit);
+        Map<Long, Plant> plants = plantDao.findAllById(estimates.stream().map(Estimate::item).toList()).stream()
+                .collect(Collectors.toMap(Plant::getId, Function.identity()));
+
+        // Plants deleted since they were sold drop out of the list
+        return estimates.stream()
+                .filter(estimate -> plants.containsKey(estimate.item()))
+                .map(estimate -> new TrendingPlantDto(floraMapper.toPlantDto(plants.get(estimate.item())), estimate.count()))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<RelatedPlantDto> findRelatedPlants(long plantId, int limit) {
+        List<CoPurchaseService.Related> related = coPurchaseService.related(plantId, limit);
+        Map<Long, Plant> plants = plantDao.findAllById(related.stream().map(CoPurchaseService.Related::plantId).toList()).stream()
+                .collect(Collectors.toMap(Plant::getId, Function.identity()));
+
+        return related.stream()
+                .filter(entry -> plants.containsKey(entry.plantId()))
+                .map(entry -> new RelatedPlantDto(floraMapper.toPlantDto(plants.get(entry.plantId())), entry.count()))
+                .toList();
+    }
+
+    public List<GiftSuggestionDto> findGiftSuggestions(String occasion, Season season, Color color, int limit) {
+        return giftFinderService.find(occasion, season, color, limit);
+    }
+
     private List<PlantDto> convertToDto(List<Plant> plants) {
         if (plants == null) {
             return Collections.emptyList();
         }
         return plants.stream()
-                .map(this::toPlantDto)
+                .map(floraMapper::toPlantDto)
                 .collect(Collectors.toList());
     }
 
-    private PlantDto toPlantDto(Plant plant) {
-        PlantDto plantDto = new PlantDto();
-        // Common fields from Plant
-        plantDto.setPlantId(plant.getId());
-        plantDto.setName(plant.getName());
-        plantDto.setDescription(plant.getDescription());
-        plantDto.setPrice(plant.getPrice());
-        plantDto.setStock(plant.getStock());
-        plantDto.setImageUrl(plant.getImageUrl() != null
-                ? Base64.getEncoder().encodeToString(plant.getImageUrl())
-                : null);
-        plantDto.setUpdatePrice(plant.getUpdatePrice());
-        plantDto.setCategory(plant.getCategory() != null ? plant.getCategory().getCategoryName() : null);
-
-        // Fields specific to Flower or IndoorPlant
-        if (plant instanceof Flower flower) {
-            plantDto.setColor(flower.getColor());
-            plantDto.setPiece(flower.getPiece());
-            // Set IndoorPlant-specific fields to null
-            plantDto.setPlantSize(null);
-            plantDto.setIsEasyToCare(null);
-            plantDto.setCareInstructions(null);
-        } else if (plant instanceof IndoorPlant indoorPlant) {
-            plantDto.setPlantSize(indoorPlant.getPlantSize());
-            plantDto.setIsEasyToCare(indoorPlant.getIsEasyToCare());
-            plantDto.setCareInstructions(indoorPlant.getCareInstructions());
-            // Set Flower-specific fields to null
-            plantDto.setColor(null);
-            plantDto.setPiece(0);
-        }
-
-        return plantDto;
-    }
-
     // FLOWER MEANING
 
+    // Reads are served from the denormalized view; the mutators below keep it in sync
+    @Transactional(readOnly = true)
     public List<FlowerMeaningResponseDto> findAllFlowerMeanings() {
-        return flowerMeaningDao.findAll().stream().map(this::mapToFlowerMeaningResponseDto).toList();
+        return flowerMeaningViewService.findAll();
     }
 
+    @Transactional(readOnly = true)
     public FlowerMeaningResponseDto findFlowerMeaningById(long id) {
-        FlowerMeaning flower = flowerMeaningDao.findById(id).orElseThrow(() -> new RuntimeException("Flower meaning not found with id: " + id));
-        return mapToFlowerMeaningResponseDto(flower);
+        return flowerMeaningViewService.findById(id)
+                .orElseThrow(() -> new RuntimeException("Flower meaning not found with id: " + id));
     }
 
     @Transactional
@@ -314,7 +381,8 @@ public class FloraService {
         }
         FlowerMeaning flower = mapToFlowerMeaningEntity(flowerMeaningDto);
         FlowerMeaning savedFlower = flowerMeaningDao.save(flower);
-        return mapToFlowerMeaningResponseDto(savedFlower);
+        publishCatalogChange(CatalogResource.FLOWER_MEANING, savedFlower.getId());
+        return flowerMeaningViewService.refresh(savedFlower);
     }
 
     @Transactional
@@ -375,39 +443,21 @@ public class FloraService {
         }
 
         FlowerMeaning updatedFlower = flowerMeaningDao.save(existingFlower);
-        return mapToFlowerMeaningResponseDto(updatedFlower);
+        publishCatalogChange(CatalogResource.FLOWER_MEANING, id);
+        return flowerMeaningViewService.refresh(updatedFlower);
     }
 
+    @Transactional
     public String deleteFlowerMeaningById(long id) {
         if (!flowerMeaningDao.existsById(id)) {
             throw new NotFoundException("Flower meaning not found with id: " + id);
         }
         flowerMeaningDao.deleteById(id);
+        flowerMeaningViewService.remove(id);
+        publishCatalogDeletion(CatalogResource.FLOWER_MEANING, id);
         return "Flower meaning with id: " + id + " deleted successfully.";
     }
 
-    private FlowerMeaningResponseDto mapToFlowerMeaningResponseDto(FlowerMeaning flower) {
-        return new FlowerMeaningResponseDto(
-                flower.getId(),
-                flower.getName(),
-                flower.getScientificName(),
-                flower.getMeaning(),
-                flower.getSymbolism(),
-                flower.getDescription(),
-                flower.getPlantingGuide(),
-                flower.getCareInstructions(),
-                flower.getSeason(),
-                new ArrayList<>(flower.getOccasions()),
-                new ArrayList<>(flower.getCulturalMeanings()),
-                new ArrayList<>(flower.getImageUrls()),
-                flower.getBloomingPeriod(),
-                flower.getColorVarieties(),
-                new HashMap<>(flower.getColorMeanings()),
-                flower.getOriginCountry(),
-                flower.getIsPerennial()
-        );
-    }
-
     private FlowerMeaning mapToFlowerMeaningEntity(FlowerMeaningDto dto) {
         FlowerMeaning flower = new FlowerMeaning();
         flower.setName(dto.name().toLowerCase());
@@ -442,6 +492,27 @@ public class FloraService {
 
     @Transactional
     public CheckoutResponseDto processCheckout(CheckoutRequestDto request) {
+        Timer.Sample sample = floraMetrics.startTimer();
+        try {
+            CheckoutResponseDto response = placeOrder(request);
+            floraMetrics.checkoutCompleted(sample);
+            return response;
+        } catch (RuntimeException e) {
+            floraMetrics.checkoutFailed(sample, checkoutFailureReason(e));
+            throw e;
+        }
+    }
+
+    private String checkoutFailureReason(RuntimeException e) {
+        return switch (e) {
+            case PaymentFailedException ignored -> "payment_failed";
+            case InsufficientException ignored -> "insufficient_stock";
+            case NotFoundException ignored -> "not_found";
+            default -> "error";
+        };
+    }
+
+    private CheckoutResponseDto placeOrder(CheckoutRequestDto request) {
         // Validate customer
         Customer customer = customerDao.findByEmail(request.customerEmail())
                 .orElseThrow(() -> new NotFoundException("Customer not found with email: " + request.customerEmail()));
@@ -464,9 +535,13 @@ public class FloraService {
         // Process plants
         processPlantsAndQuantities(checkout, request.plantQuantities());
 
-        // Save checkout
+        // Save checkout; a concurrent rollup rebuild is waited for first
+        salesRollupService.lockForCheckout();
         Checkout savedCheckout = checkoutDao.save(checkout);
-        return convertToResponse(savedCheckout);
+        salesRollupService.recordCheckout(savedCheckout);
+        eventPublisher.publishEvent(new CheckoutCompletedEvent(
+                savedCheckout.getId(), Map.copyOf(request.plantQuantities()), Instant.now()));
+        return floraMapper.toCheckoutResponse(savedCheckout);
     }
 
     private void processPayment(CheckoutRequestDto request) {
@@ -481,7 +556,7 @@ public class FloraService {
            );
 
         } catch (Exception e) {
-            throw new RuntimeException("Payment failed: " + e.getMessage(), e);
+            throw new PaymentFailedException("Payment failed: " + e.getMessage(), e);
         }
     }
 
@@ -495,6 +570,7 @@ public class FloraService {
 
             // Check stock availability
             if (plant.getStock() < quantity) {
+                floraMetrics.stockInsufficient();
                 throw new InsufficientException("Insufficient stock for " + plant.getName() +
                         ". Available: " + plant.getStock() + ", Requested: " + quantity);
             }
@@ -502,82 +578,41 @@ public class FloraService {
             // Update plant stock
             plant.setStock(plant.getStock() - quantity);
             plantDao.save(plant);
+            publishCatalogChange(CatalogResource.PLANT, plantId);
 
             // Add to checkout
-            checkout.getPlants().add(plant);
-            checkout.addPlantQuantity(plantId, quantity);
+            checkout.addLine(toOrderLine(plant, quantity));
         }
     }
 
-    private String generateOrderCode() {
-        SecureRandom random = new SecureRandom();
-        return "PLANT-" + System.currentTimeMillis() + "-" + random.nextInt(100000) + 100000;
-    }
-
-    private CheckoutResponseDto convertToResponse(Checkout checkout) {
-        CheckoutResponseDto response = new CheckoutResponseDto();
-        response.setId(checkout.getId());
-        response.setOrderCode(checkout.getOrderCode());
-        response.setOrderDate(checkout.getOrderDate());
-        response.setTotalAmount(checkout.getTotalAmount());
-        response.setTotalItems(checkout.getTotalItems());
-        response.setStatus(checkout.getStatus());
-        response.setShippingAddress(checkout.getShippingAddress());
-        response.setCustomerNotes(checkout.getCustomerNotes());
-        response.setShippingStatus(checkout.getShippingStatus().name());
-        response.setExpectedDeliveryDate(checkout.getExpectedDeliveryDate());
-        response.setPlantQuantities(checkout.getPlantQuantities());
-
-        // Customer info
-        if (checkout.getCustomer() != null) {
-            String name = checkout.getCustomer().getFirstName() + " " + checkout.getCustomer().getLastName();
-            response.setCustomerName(name);
-            response.setCustomerEmail(checkout.getCustomer().getEmail());
-        }
-
-        // Convert plants
-        List<CheckoutPlantItemDto> plantItems = checkout.getPlants().stream()
-                .map(this::convertToCheckoutPlantItem)
-                .toList();
-        response.setPlants(plantItems);
-
-        return response;
-    }
-
-    private CheckoutPlantItemDto convertToCheckoutPlantItem(Plant plant) {
-        CheckoutPlantItemDto item = new CheckoutPlantItemDto();
-        item.setId(plant.getId());
-        item.setName(plant.getName());
-        item.setDescription(plant.getDescription());
-        item.setPrice(plant.getPrice());
-
-        // Convert image
-        if (plant.getImageUrl() != null) {
-            item.setImageUrl(Base64.getEncoder().encodeToString(plant.getImageUrl()));
-        }
-
-        // Category
+    private OrderLine toOrderLine(Plant plant, int quantity) {
+        OrderLine line = new OrderLine();
+        line.setPlantId(plant.getId());
+        line.setPlantName(plant.getName());
+        line.setUnitPrice(plant.effectivePrice());
+        line.setQuantity(quantity);
         if (plant.getCategory() != null) {
-            item.setCategoryName(plant.getCategory().getCategoryName());
+            line.setCategoryId(plant.getCategory().getId());
+            line.setCategoryName(plant.getCategory().getCategoryName());
         }
 
-        // Plant type specific fields
-        if (plant instanceof Flower) {
-            Flower flower = (Flower) plant;
-            item.setPlantType("FLOWER");
-            item.setColor(flower.getColor() != null ? flower.getColor().toString() : null);
-            item.setPiece(flower.getPiece());
-        } else if (plant instanceof IndoorPlant) {
-            IndoorPlant indoorPlant = (IndoorPlant) plant;
-            item.setPlantType("INDOOR_PLANT");
-            item.setPlantSize(indoorPlant.getPlantSize());
-            item.setEasyToCare(indoorPlant.getIsEasyToCare());
-            item.setCareInstructions(indoorPlant.getCareInstructions());
+        if (plant instanceof Flower flower) {
+            line.setPlantType("FLOWER");
+            line.setColor(flower.getColor() != null ? flower.getColor().toString() : null);
+            line.setPiece(flower.getPiece());
+        } else if (plant instanceof IndoorPlant indoorPlant) {
+            line.setPlantType("INDOOR_PLANT");
+            line.setPlantSize(indoorPlant.getPlantSize());
         }
+        return line;
+    }
 
-        return item;
+    // Unique and time-ordered, so order codes sort by creation
+    private String generateOrderCode() {
+        return "PLANT-" + idGenerator.nextCode();
     }
 
+    @Transactional(readOnly = true)
     public List<CheckoutResponseDto> getCheckoutHistory(String username) {
         System.out.println("Username::" + username);
         long id = customerDao.findByUsername(username).get().getId();
@@ -585,7 +620,7 @@ public class FloraService {
         return checkoutDao.
                 findByCustomerIdOrderByOrderDateDesc(id)
                 .stream()
-                .map(this::convertToResponse)
+                .map(floraMapper::toCheckoutResponse)
                 .collect(Collectors.toList());
     }
 
@@ -602,21 +637,76 @@ public class FloraService {
         }
 
         Checkout updatedCheckout = checkoutDao.save(checkout);
-        return convertToResponse(updatedCheckout);
+        if (updatedCheckout.getCustomer() != null) {
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(updatedCheckout.getId(),
+                    updatedCheckout.getCustomer().getUsername(), updatedCheckout.getShippingStatus(),
+                    updatedCheckout.getExpectedDeliveryDate()));
+        }
+        return floraMapper.toCheckoutResponse(updatedCheckout);
     }
 
+    /**
+     * Applies {@code newStatus} to all given orders with set-based updates, following the same
+     * rules as {@link #updateOrderStatus}. Returns the number of orders updated.
+     */
+    @Transactional
+    public int updateOrderStatuses(List<Long> orderIds, ShippingStatus newStatus) {
+        if (newStatus == null || newStatus == ShippingStatus.PENDING) {
+            throw new IllegalArgumentException("Orders can only be moved to OUT_FOR_DELIVERY or DELIVERED");
+        }
+        if (orderIds == null || orderIds.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> ids = orderIds.stream().filter(Objects::nonNull).distinct().toList();
+        int updated = 0;
+        for (int i = 0; i < ids.size(); i += STATUS_UPDATE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(i, Math.min(i + STATUS_UPDATE_CHUNK_SIZE, ids.size()));
+            if (newStatus == ShippingStatus.OUT_FOR_DELIVERY) {
+                updated += checkoutDao.updateShippingStatusAndExpectedDeliveryDate(
+                        chunk, ShippingStatus.OUT_FOR_DELIVERY, LocalDate.now().plusDays(1));
+            } else {
+                updated += checkoutDao.updateShippingStatus(chunk, ShippingStatus.DELIVERED);
+            }
+            publishStatusChanges(chunk, newStatus);
+        }
+        return updated;
+    }
+
+    @Transactional
+    public int advanceShippingStatus(List<Long> orderIds, ShippingStatus from, ShippingStatus to) {
+        int updated = checkoutDao.advanceShippingStatus(orderIds, from, to);
+        if (updated > 0) {
+            publishStatusChanges(orderIds, to);
+        }
+        return updated;
+    }
+
+    // Subscribers are notified after commit; orders that did not end up in the status are skipped
+    private void publishStatusChanges(List<Long> orderIds, ShippingStatus status) {
+        for (CheckoutDao.OrderStatusView view : checkoutDao.findStatusViewsByIdIn(orderIds)) {
+            if (view.getShippingStatus() == status) {
+                eventPublisher.publishEvent(new OrderStatusChangedEvent(view.getId(), view.getUsername(),
+                        view.getShippingStatus(), view.getExpectedDeliveryDate()));
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
     public List<CheckoutResponseDto> getAllOrders() {
         return checkoutDao.findAllByOrderByOrderDateDesc()
                 .stream()
-                .map(this::convertToResponse)
+                .map(floraMapper::toCheckoutResponse)
                 .toList();
     }
 
+    @Transactional
     public String deletePlantById(long id) {
         if (!plantDao.existsById(id)) {
             throw new NotFoundException("Plant id %s is not exist!".formatted(id));
         }
         plantDao.deleteById(id);
+        publishCatalogDeletion(CatalogResource.PLANT, id);
         return "Plant successfully deleted!";
     }
 }
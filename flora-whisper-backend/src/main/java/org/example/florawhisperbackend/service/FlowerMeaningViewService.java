@@ -0,0 +1,111 @@
+package org.example.florawhisperbackend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.example.florawhisperbackend.dao.FlowerMeaningDao;
+import org.example.florawhisperbackend.dao.FlowerMeaningViewDao;
+import org.example.florawhisperbackend.dto.FloraDto.FlowerMeaningResponseDto;
+import org.example.florawhisperbackend.entity.FlowerMeaning;
+import org.example.florawhisperbackend.entity.FlowerMeaningView;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keeps {@link FlowerMeaningView} in step with {@link FlowerMeaning}. Writes join the caller's
+ * transaction, so the entity and its document are committed together.
+ */
+@Service
+@RequiredArgsConstructor
+public class FlowerMeaningViewService {
+
+    private final FlowerMeaningViewDao flowerMeaningViewDao;
+    private final FlowerMeaningDao flowerMeaningDao;
+    private final ObjectMapper objectMapper;
+
+    public List<FlowerMeaningResponseDto> findAll() {
+        return flowerMeaningViewDao.findAllByOrderByIdAsc().stream().map(this::readDocument).toList();
+    }
+
+    public Optional<FlowerMeaningResponseDto> findById(long id) {
+        return flowerMeaningViewDao.findById(id).map(this::readDocument);
+    }
+
+    public List<FlowerMeaningResponseDto> findAllById(Collection<Long> ids) {
+        return flowerMeaningViewDao.findAllById(ids).stream().map(this::readDocument).toList();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public FlowerMeaningResponseDto refresh(FlowerMeaning flower) {
+        FlowerMeaningResponseDto dto = toResponseDto(flower);
+        flowerMeaningViewDao.save(new FlowerMeaningView(flower.getId(), flower.getName(), writeDocument(dto)));
+        return dto;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void remove(long id) {
+        if (flowerMeaningViewDao.existsById(id)) {
+            flowerMeaningViewDao.deleteById(id);
+        }
+    }
+
+    // Fills in documents for flower meanings written before the view existed
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @Transactional
+    public void backfill() {
+        List<Long> missingIds = flowerMeaningViewDao.findMissingFlowerMeaningIds();
+        if (!missingIds.isEmpty()) {
+            flowerMeaningDao.findAllById(missingIds).forEach(this::refresh);
+        }
+    }
+
+    private FlowerMeaningResponseDto toResponseDto(FlowerMeaning flower) {
+        return new FlowerMeaningResponseDto(
+                flower.getId(),
+                flower.getName(),
+                flower.getScientificName(),
+                flower.getMeaning(),
+                flower.getSymbolism(),
+                flower.getDescription(),
+                flower.getPlantingGuide(),
+                flower.getCareInstructions(),
+                flower.getSeason(),
+                new ArrayList<>(flower.getOccasions()),
+                new ArrayList<>(flower.getCulturalMeanings()),
+                new ArrayList<>(flower.getImageUrls()),
+                flower.getBloomingPeriod(),
+                flower.getColorVarieties(),
+                new HashMap<>(flower.getColorMeanings()),
+                flower.getOriginCountry(),
+                flower.getIsPerennial()
+        );
+    }
+
+    private String writeDocument(FlowerMeaningResponseDto dto) {
+        try {
+            return objectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize flower meaning " + dto.id(), e);
+        }
+    }
+
+    private FlowerMeaningResponseDto readDocument(FlowerMeaningView view) {
+        try {
+            return objectMapper.readValue(view.getDocument(), FlowerMeaningResponseDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt flower meaning document " + view.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package org.example.florawhisperbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.florawhisperbackend.config.ReadRouting;
+import org.example.florawhisperbackend.dao.FlowerDao;
+import org.example.florawhisperbackend.dao.FlowerDao.FlowerIndexView;
+import org.example.florawhisperbackend.dto.FloraDto.FlowerMeaningResponseDto;
+import org.example.florawhisperbackend.dto.FloraDto.GiftSuggestionDto;
+import org.example.florawhisperbackend.entity.Color;
+import org.example.florawhisperbackend.entity.Flower;
+import org.example.florawhisperbackend.entity.Season;
+import org.example.florawhisperbackend.event.CatalogChangedEvent;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * In-memory gift finder: answers "in-stock flowers of this color for this occasion and season"
+ * by intersecting precomputed bitsets, with no database access at request time.
+ * <p>
+ * Every indexed {@link Flower} gets a slot; each facet value (occasion, season, color) maps to the
+ * set of slots carrying it. Occasions and seasons come from the flower meanings whose name appears
+ * in the flower's name, so "Pink Rose Bouquet" picks up the facets of the "rose" meaning.
+ * {@link CatalogChangedEvent}s re-index only the flowers they touch, on a single background
+ * thread: every checkout line changes a flower's stock, and the buyer should not wait for the
+ * index. Only the indexed columns are read, never the image.
+ */
+@Service
+@RequiredArgsConstructor
+public class GiftFinderService implements InitializingBean, DisposableBean {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final FlowerDao flowerDao;
+    private final FlowerMeaningViewService flowerMeaningViewService;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readTransaction;
+
+    // One thread, so refreshes apply in the order they read
+    private final ExecutorService refreshExecutor =
+            Executors.newSingleThreadExecutor(Thread.ofVirtual().name("gift-finder-refresh").factory());
+    // Flowers with a refresh queued; a burst of sales of one flower reads it once
+    private final Set<Long> pendingFlowerIds = ConcurrentHashMap.newKeySet();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> slotsByFlowerId = new HashMap<>();
+    private final List<IndexedFlower> flowersBySlot = new ArrayList<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet inStock = new BitSet();
+    private final Map<String, BitSet> byOccasion = new HashMap<>();
+    private final Map<Season, BitSet> bySeason = new EnumMap<>(Season.class);
+    private final Map<Color, BitSet> byColor = new EnumMap<>(Color.class);
+    private final Map<Long, FlowerMeaningResponseDto> meanings = new HashMap<>();
+
+    private record IndexedFlower(long id, String name, double price, int stock, Color color,
+                                 List<FlowerMeaningResponseDto> meanings) {}
+
+    public List<GiftSuggestionDto> find(String occasion, Season season, Color color, int limit) {
+        int max = Math.max(0, Math.min(limit, MAX_LIMIT));
+        List<GiftSuggestionDto> suggestions = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            BitSet matches = (BitSet) inStock.clone();
+            if (occasion != null && !occasion.isBlank()) {
+                matches.and(byOccasion.getOrDefault(normalize(occasion), new BitSet()));
+            }
+            if (season != null) {
+                matches.and(bySeason.getOrDefault(season, new BitSet()));
+            }
+            if (color != null) {
+                matches.and(byColor.getOrDefault(color, new BitSet()));
+            }
+            for (int slot = matches.nextSetBit(0); slot >= 0 && suggestions.size() < max; slot = matches.nextSetBit(slot + 1)) {
+                suggestions.add(toSuggestion(flowersBySlot.get(slot)));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return suggestions;
+    }
+
+    // Runs after the flower meaning view has been backfilled
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void rebuild() {
+        List<FlowerIndexView> flowers = read(flowerDao::findIndexViews);
+        List<FlowerMeaningResponseDto> allMeanings = read(flowerMeaningViewService::findAll);
+
+        lock.writeLock().lock();
+        try {
+            slotsByFlowerId.clear();
+            flowersBySlot.clear();
+            freeSlots.clear();
+            inStock.clear();
+            byOccasion.clear();
+            bySeason.clear();
+            byColor.clear();
+            meanings.clear();
+            allMeanings.forEach(meaning -> meanings.put(meaning.id(), meaning));
+            flowers.forEach(this::index);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.id() == null && event.resource() != CatalogChangedEvent.CatalogResource.CATEGORY) {
+            refreshExecutor.execute(this::rebuild);
+            return;
+        }
+        long id = event.id() != null ? event.id() : 0;
+        switch (event.resource()) {
+            case PLANT -> {
+                if (pendingFlowerIds.add(id)) {
+                    refreshExecutor.execute(() -> {
+                        // Removed before reading, so a change committed during the read queues again
+                        pendingFlowerIds.remove(id);
+                        refreshFlower(id);
+                    });
+                }
+            }
+            case FLOWER_MEANING -> refreshExecutor.execute(() -> refreshMeaning(id));
+            case CATEGORY -> { }
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        readTransaction = new TransactionTemplate(transactionManager);
+        // Events arrive after the publishing transaction committed, so reads need their own
+        readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        readTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+
+    // The index outlives the read, so it is built from the primary rather than a possibly lagging replica
+    private <T> T read(Supplier<T> query) {
+        return ReadRouting.fromPrimary(() -> readTransaction.execute(status -> query.get()));
+    }
+
+    private void refreshFlower(long flowerId) {
+        Optional<FlowerIndexView> flower = read(() -> flowerDao.findIndexViewById(flowerId));
+        lock.writeLock().lock();
+        try {
+            unindex(flowerId);
+            flower.ifPresent(this::index);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void refreshMeaning(long meaningId) {
+        Optional<FlowerMeaningResponseDto> meaning = read(() -> flowerMeaningViewService.findById(meaningId));
+        lock.writeLock().lock();
+        try {
+            FlowerMeaningResponseDto previous = meanings.remove(meaningId);
+            meaning.ifPresent(value -> meanings.put(meaningId, value));
+
+            List<IndexedFlower> affected = flowersBySlot.stream()
+                    .filter(flower -> flower != null
+                            && (matches(flower.name(), previous) || matches(flower.name(), meaning.orElse(null))))
+                    .toList();
+            for (IndexedFlower flower : affected) {
+                unindex(flower.id());
+                index(flower.id(), flower.name(), flower.price(), flower.stock(), flower.color());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Callers hold the write lock
+    private void index(FlowerIndexView flower) {
+        index(flower.getId(), flower.getName(), flower.getPrice(), flower.getStock(), flower.getColor());
+    }
+
+    private void index(long id, String name, double price, int stock, Color color) {
+        List<FlowerMeaningResponseDto> matched = meanings.values().stream()
+                .filter(meaning -> matches(name, meaning))
+                .toList();
+        IndexedFlower flower = new IndexedFlower(id, name, price, stock, color, matched);
+
+        int slot;
+        if (freeSlots.isEmpty()) {
+            slot = flowersBySlot.size();
+            flowersBySlot.add(flower);
+        } else {
+            slot = freeSlots.pop();
+            flowersBySlot.set(slot, flower);
+        }
+        slotsByFlowerId.put(id, slot);
+
+        if (stock > 0) {
+            inStock.set(slot);
+        }
+        if (color != null) {
+            byColor.computeIfAbsent(color, key -> new BitSet()).set(slot);
+        }
+        for (FlowerMeaningResponseDto meaning : matched) {
+            if (meaning.occasions() != null) {
+                for (String occasion : meaning.occasions()) {
+                    byOccasion.computeIfAbsent(normalize(occasion), key -> new BitSet()).set(slot);
+                }
+            }
+            for (Season season : expand(meaning.season())) {
+                bySeason.computeIfAbsent(season, key -> new BitSet()).set(slot);
+            }
+        }
+    }
+
+    private void unindex(long flowerId) {
+        Integer slot = slotsByFlowerId.remove(flowerId);
+        if (slot == null) {
+            return;
+        }
+        flowersBySlot.set(slot, null);
+        freeSlots.push(slot);
+        inStock.clear(slot);
+        clear(byOccasion.values(), slot);
+        clear(bySeason.values(), slot);
+        clear(byColor.values(), slot);
+    }
+
+    private void clear(Collection<BitSet> bitSets, int slot) {
+        for (BitSet bitSet : bitSets) {
+            bitSet.clear(slot);
+        }
+    }
+
+    private GiftSuggestionDto toSuggestion(IndexedFlower flower) {
+        String colorMeaning = flower.meanings().stream()
+                .filter(meaning -> meaning.colorMeanings() != null && flower.color() != null)
+                .map(meaning -> meaning.colorMeanings().get(flower.color()))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+        return new GiftSuggestionDto(
+                flower.id(),
+                flower.name(),
+                flower.price(),
+                flower.stock(),
+                flower.color(),
+                flower.meanings().stream().map(FlowerMeaningResponseDto::name).toList(),
+                colorMeaning
+        );
+    }
+
+    private boolean matches(String flowerName, FlowerMeaningResponseDto meaning) {
+        return flowerName != null && meaning != null && meaning.name() != null
+                && normalize(flowerName).contains(normalize(meaning.name()));
+    }
+
+    // A meaning that blooms across several seasons is found under each of them
+    private List<Season> expand(Season season) {
+        if (season == null) {
+            return List.of();
+        }
+        return switch (season) {
+            case ALL_SEASON -> List.of(Season.values());
+            case SPRING_SUMMER -> List.of(Season.SPRING, Season.SUMMER, Season.SPRING_SUMMER);
+            case SUMMER_AUTUMN -> List.of(Season.SUMMER, Season.AUTUMN, Season.SUMMER_AUTUMN);
+            default -> List.of(season);
+        };
+    }
+
+    private String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.florawhisperbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.florawhisperbackend.dao.CheckoutDao;
+import org.example.florawhisperbackend.entity.ShippingStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Marks orders as DELIVERED once their expected delivery date has passed. Orders are found
+ * with a keyset scan over the id and updated one chunk per transaction, so no transaction
+ * holds locks for longer than a single chunk.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderDeliveryScheduler {
+
+    private final CheckoutDao checkoutDao;
+    private final FloraService floraService;
+
+    @Value("${app.orders.auto-deliver-chunk-size:500}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${app.orders.auto-deliver-cron:0 0 * * * *}")
+    public void autoDeliverOverdueOrders() {
+        LocalDate today = LocalDate.now();
+        long afterId = 0;
+        while (true) {
+            List<Long> ids = checkoutDao.findIdsByShippingStatusDueBefore(
+                    ShippingStatus.OUT_FOR_DELIVERY, today, afterId, Limit.of(chunkSize));
+            if (ids.isEmpty()) {
+                return;
+            }
+            floraService.advanceShippingStatus(ids, ShippingStatus.OUT_FOR_DELIVERY, ShippingStatus.DELIVERED);
+            if (ids.size() < chunkSize) {
+                return;
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.example.florawhisperbackend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.florawhisperbackend.dao.CheckoutDao;
+import org.example.florawhisperbackend.dto.FloraDto.OrderExportRow;
+import org.example.florawhisperbackend.entity.Checkout;
+import org.example.florawhisperbackend.entity.Customer;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class OrderExportService {
+
+    // Orders hydrated between persistence-context clears; matches the fetch size on the export query
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
+    private static final String CSV_HEADER = "id,orderCode,orderDate,totalAmount,totalItems,status,"
+            + "shippingStatus,expectedDeliveryDate,customerName,customerEmail,shippingAddress\n";
+
+    private final CheckoutDao checkoutDao;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public enum ExportFormat {
+        NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+        CSV(MediaType.parseMediaType("text/csv"), "csv");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        ExportFormat(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static ExportFormat from(String format) {
+            for (ExportFormat exportFormat : values()) {
+                if (exportFormat.extension.equalsIgnoreCase(format)) {
+                    return exportFormat;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported export format: " + format);
+        }
+    }
+
+    /**
+     * Writes every order placed between {@code from} and {@code to} (both optional, inclusive)
+     * to {@code out}, one row per order. Rows are read from a database cursor and the persistence
+     * context is cleared every {@value #EXPORT_CHUNK_SIZE} orders, so heap usage does not grow
+     * with the number of orders.
+     */
+    @Transactional(readOnly = true)
+    public long exportOrders(LocalDate from, LocalDate to, ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+        }
+
+        long count = 0;
+        try (Stream<Checkout> checkouts = checkoutDao.streamByOrderDateBetween(from, to)) {
+            Iterator<Checkout> iterator = checkouts.iterator();
+            while (iterator.hasNext()) {
+                OrderExportRow row = toExportRow(iterator.next());
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+
+                if (++count % EXPORT_CHUNK_SIZE == 0) {
+                    entityManager.clear();
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private OrderExportRow toExportRow(Checkout checkout) {
+        Customer customer = checkout.getCustomer();
+        return new OrderExportRow(
+                checkout.getId(),
+                checkout.getOrderCode(),
+                checkout.getOrderDate(),
+                checkout.getTotalAmount(),
+                checkout.getTotalItems(),
+                checkout.getStatus(),
+                checkout.getShippingStatus() != null ? checkout.getShippingStatus().name() : null,
+                checkout.getExpectedDeliveryDate(),
+                customer != null ? customer.getFirstName() + " " + customer.getLastName() : null,
+                customer != null ? customer.getEmail() : null,
+                checkout.getShippingAddress()
+        );
+    }
+
+    private void writeCsvRow(Writer writer, OrderExportRow row) throws IOException {
+        writer.write(String.join(",",
+                String.valueOf(row.id()),
+                csv(row.orderCode()),
+                csv(row.orderDate()),
+                String.valueOf(row.totalAmount()),
+                String.valueOf(row.totalItems()),
+                csv(row.status()),
+                csv(row.shippingStatus()),
+                csv(row.expectedDeliveryDate()),
+                csv(row.customerName()),
+                csv(row.customerEmail()),
+                csv(row.shippingAddress())));
+        writer.write('\n');
+    }
+
+    private String csv(Object value) {
+        if (Objects.isNull(value)) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.florawhisperbackend.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.florawhisperbackend.entity.Checkout;
+import org.example.florawhisperbackend.entity.OrderLine;
+import org.hibernate.Session;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * Converts orders stored in the legacy {@code checkout_plants}/{@code checkout_plant_quantities}
+ * join tables into {@link OrderLine} rows. Runs once per startup, one chunk of orders per
+ * transaction, and skips orders that already have lines, so it is safe to interrupt and rerun.
+ * Legacy orders never captured a price, so the current catalog price is used for them: the sale
+ * price when one is set, otherwise the list price, as at checkout.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderLineMigration {
+
+    private static final String LEGACY_TABLE = "checkout_plant_quantities";
+    private static final int CHUNK_SIZE = 200;
+
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void migrateLegacyOrders() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        if (!Boolean.TRUE.equals(transactionTemplate.execute(status -> legacyTableExists()))) {
+            return;
+        }
+
+        long afterId = 0;
+        while (true) {
+            long lastId = afterId;
+            List<Long> checkoutIds = transactionTemplate.execute(status -> migrateChunk(lastId));
+            if (checkoutIds == null || checkoutIds.isEmpty()) {
+                break;
+            }
+            afterId = checkoutIds.get(checkoutIds.size() - 1);
+        }
+    }
+
+    private List<Long> migrateChunk(long afterId) {
+        @SuppressWarnings("unchecked")
+        List<Number> ids = entityManager.createNativeQuery("""
+                SELECT DISTINCT q.checkout_id
+                FROM checkout_plant_quantities q
+                WHERE q.checkout_id > :afterId
+                AND NOT EXISTS (SELECT 1 FROM order_line l WHERE l.checkout_id = q.checkout_id)
+                ORDER BY q.checkout_id
+                """)
+                .setParameter("afterId", afterId)
+                .setMaxResults(CHUNK_SIZE)
+                .getResultList();
+        List<Long> checkoutIds = ids.stream().map(Number::longValue).toList();
+        if (checkoutIds.isEmpty()) {
+            return checkoutIds;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery("""
+                SELECT q.checkout_id, q.plant_id, q.quantity, p.name,
+                       CASE WHEN p.update_price > 0 THEN p.update_price ELSE p.price END, p.plant_type,
+                       p.category_id, c.category_name, f.color, f.piece, i.plant_size
+                FROM checkout_plant_quantities q
+                LEFT JOIN plant p ON p.id = q.plant_id
+                LEFT JOIN category c ON c.id = p.category_id
+                LEFT JOIN flower f ON f.id = q.plant_id
+                LEFT JOIN indoor_plant i ON i.id = q.plant_id
+                WHERE q.checkout_id IN (:ids)
+                ORDER BY q.checkout_id, q.plant_id
+                """)
+                .setParameter("ids", checkoutIds)
+                .getResultList();
+
+        for (Object[] row : rows) {
+            OrderLine line = new OrderLine();
+            line.setCheckout(entityManager.getReference(Checkout.class, ((Number) row[0]).longValue()));
+            line.setPlantId(((Number) row[1]).longValue());
+            line.setQuantity(row[2] != null ? ((Number) row[2]).intValue() : 0);
+            line.setPlantName(row[3] != null ? (String) row[3] : "Plant #" + row[1]);
+            line.setUnitPrice(row[4] != null ? ((Number) row[4]).doubleValue() : 0);
+            line.setPlantType((String) row[5]);
+            line.setCategoryId(row[6] != null ? ((Number) row[6]).longValue() : null);
+            line.setCategoryName((String) row[7]);
+            line.setColor((String) row[8]);
+            line.setPiece(row[9] != null ? ((Number) row[9]).intValue() : null);
+            line.setPlantSize((String) row[10]);
+            entityManager.persist(line);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return checkoutIds;
+    }
+
+    private boolean legacyTableExists() {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String name : List.of(LEGACY_TABLE, LEGACY_TABLE.toUpperCase())) {
+                try (ResultSet tables = metaData.getTables(connection.getCatalog(), null, name, new String[]{"TABLE"})) {
+                    if (tables.next()) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        });
+    }
+}
@@ -0,0 +1,205 @@
+package org.example.florawhisperbackend.service;
+
+import org.example.florawhisperbackend.dto.FloraDto.OrderStatusUpdateDto;
+import org.example.florawhisperbackend.event.OrderStatusChangedEvent;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pushes shipping-status changes to customers over Server-Sent Events.
+ * <p>
+ * Emitters run on the async servlet API, so an idle subscriber holds a socket but no thread.
+ * Each user keeps a small buffer of recent events; a client that reconnects with
+ * {@code Last-Event-ID} is sent everything it missed that is still buffered. Event ids start
+ * from the wall clock, so they keep increasing across restarts.
+ * <p>
+ * Events and heartbeats are written on virtual threads, so a client that stops reading blocks
+ * only its own sends, never the scheduler or the thread that committed the status change. Events
+ * for one emitter are chained so they arrive in order. An emitter whose previous heartbeat is
+ * still stuck, or whose send fails, is dropped.
+ */
+@Service
+public class OrderStatusStreamService implements DisposableBean {
+
+    private static final String EVENT_NAME = "order-status";
+    private static final int REPLAY_BUFFER_SIZE = 50;
+    private static final Duration REPLAY_RETENTION = Duration.ofHours(1);
+
+    @Value("${app.orders.stream-timeout-ms:1800000}")
+    private long streamTimeoutMillis;
+
+    private final Map<String, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+    private final Map<String, Deque<BufferedEvent>> replayBuffers = new ConcurrentHashMap<>();
+    private final AtomicLong eventIds = new AtomicLong(System.currentTimeMillis() * 1000);
+    private final ExecutorService heartbeatExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    // Emitters with a heartbeat still being written
+    private final Set<SseEmitter> heartbeatsInFlight = ConcurrentHashMap.newKeySet();
+    // Last event send queued per emitter; the next one runs after it
+    private final Map<SseEmitter, CompletableFuture<Void>> pendingSends = new ConcurrentHashMap<>();
+
+    private record BufferedEvent(long id, Instant createdAt, OrderStatusUpdateDto update) {}
+
+    public SseEmitter subscribe(String username, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMillis);
+        subscribers.compute(username, (key, emitters) -> {
+            Set<SseEmitter> set = emitters != null ? emitters : ConcurrentHashMap.newKeySet();
+            set.add(emitter);
+            return set;
+        });
+        emitter.onCompletion(() -> unsubscribe(username, emitter));
+        emitter.onTimeout(() -> unsubscribe(username, emitter));
+        emitter.onError(e -> unsubscribe(username, emitter));
+
+        try {
+            // Flushes the response headers so clients and proxies see the stream open right away
+            emitter.send(SseEmitter.event().comment("connected"));
+            for (BufferedEvent event : bufferedAfter(username, parseEventId(lastEventId))) {
+                send(emitter, event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            unsubscribe(username, emitter);
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (event.username() == null) {
+            return;
+        }
+        BufferedEvent buffered = new BufferedEvent(eventIds.incrementAndGet(), Instant.now(),
+                new OrderStatusUpdateDto(event.orderId(), event.shippingStatus().name(), event.expectedDeliveryDate()));
+
+        // Appended inside compute, so the cleanup in sendHeartbeats cannot drop the buffer in between
+        replayBuffers.compute(event.username(), (key, existing) -> {
+            Deque<BufferedEvent> buffer = existing != null ? existing : new ArrayDeque<>();
+            synchronized (buffer) {
+                buffer.addLast(buffered);
+                if (buffer.size() > REPLAY_BUFFER_SIZE) {
+                    buffer.removeFirst();
+                }
+            }
+            return buffer;
+        });
+
+        for (SseEmitter emitter : subscribers.getOrDefault(event.username(), Set.of())) {
+            dispatch(event.username(), emitter, buffered);
+        }
+    }
+
+    @Scheduled(fixedRateString = "${app.orders.stream-heartbeat-ms:15000}")
+    public void sendHeartbeats() {
+        subscribers.forEach((username, emitters) -> {
+            for (SseEmitter emitter : emitters) {
+                if (!heartbeatsInFlight.add(emitter)) {
+                    // Not even the last heartbeat got through; the async timeout reclaims the request
+                    unsubscribe(username, emitter);
+                    continue;
+                }
+                heartbeatExecutor.execute(() -> sendHeartbeat(username, emitter));
+            }
+        });
+
+        Instant cutoff = Instant.now().minus(REPLAY_RETENTION);
+        for (String username : replayBuffers.keySet()) {
+            replayBuffers.computeIfPresent(username, (key, buffer) -> {
+                synchronized (buffer) {
+                    buffer.removeIf(event -> event.createdAt().isBefore(cutoff));
+                    return buffer.isEmpty() ? null : buffer;
+                }
+            });
+        }
+    }
+
+    @Override
+    public void destroy() {
+        heartbeatExecutor.shutdownNow();
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void sendHeartbeat(String username, SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+        } catch (IOException | IllegalStateException e) {
+            drop(username, emitter, e);
+        } finally {
+            heartbeatsInFlight.remove(emitter);
+        }
+    }
+
+    private void dispatch(String username, SseEmitter emitter, BufferedEvent event) {
+        CompletableFuture<Void> queued = pendingSends.compute(emitter, (key, previous) ->
+                (previous != null ? previous : CompletableFuture.<Void>completedFuture(null))
+                        .thenRunAsync(() -> sendEvent(username, emitter, event), heartbeatExecutor));
+        queued.whenComplete((result, error) -> pendingSends.remove(emitter, queued));
+    }
+
+    private void sendEvent(String username, SseEmitter emitter, BufferedEvent event) {
+        try {
+            send(emitter, event);
+        } catch (IOException | IllegalStateException e) {
+            drop(username, emitter, e);
+        }
+    }
+
+    private void drop(String username, SseEmitter emitter, Exception cause) {
+        unsubscribe(username, emitter);
+        emitter.completeWithError(cause);
+    }
+
+    private void send(SseEmitter emitter, BufferedEvent event) throws IOException {
+        emitter.send(SseEmitter.event()
+                .id(String.valueOf(event.id()))
+                .name(EVENT_NAME)
+                .data(event.update()));
+    }
+
+    private List<BufferedEvent> bufferedAfter(String username, long lastEventId) {
+        Deque<BufferedEvent> buffer = replayBuffers.get(username);
+        if (buffer == null || lastEventId < 0) {
+            return List.of();
+        }
+        synchronized (buffer) {
+            return buffer.stream().filter(event -> event.id() > lastEventId).toList();
+        }
+    }
+
+    private void unsubscribe(String username, SseEmitter emitter) {
+        subscribers.computeIfPresent(username, (key, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
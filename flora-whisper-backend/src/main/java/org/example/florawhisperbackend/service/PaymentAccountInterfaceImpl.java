@@ -11,6 +11,8 @@ import org.example.florawhisperbackend.entity.PaymentAccount;
 import org.example.florawhisperbackend.exception.NotFoundException;
 import org.example.florawhisperbackend.exception.InsufficientException;
 import org.example.florawhisperbackend.exception.SecurityCodeInvalidException;
+import org.example.florawhisperbackend.metrics.FloraMetrics;
+import org.example.florawhisperbackend.ratelimit.RateLimiter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -27,8 +29,19 @@ public class PaymentAccountInterfaceImpl implements PaymentAccountInterface {
     @Autowired
     private OtpDao otpDao;
 
+	@Autowired
+	private FloraMetrics floraMetrics;
+
+	@Autowired
+	private RateLimiter rateLimiter;
+
 	@Override
 	public double deposit(String accountNumber, double amount, String username, String code) {
+		rateLimiter.check(RateLimiter.PAYMENT_ACCOUNT, accountNumber);
+		return floraMetrics.recordPayment("deposit", () -> doDeposit(accountNumber, amount, username, code));
+	}
+
+	private double doDeposit(String accountNumber, double amount, String username, String code) {
 		boolean response = toGrantedSecurityCode(username, code);
 
 		if (response) {
@@ -55,6 +68,11 @@ public class PaymentAccountInterfaceImpl implements PaymentAccountInterface {
 
 	@Override
 	public double withdraw(String accountNumber, double amount, String username, String code) {
+		rateLimiter.check(RateLimiter.PAYMENT_ACCOUNT, accountNumber);
+		return floraMetrics.recordPayment("withdraw", () -> doWithdraw(accountNumber, amount, username, code));
+	}
+
+	private double doWithdraw(String accountNumber, double amount, String username, String code) {
 		boolean response = toGrantedSecurityCode(username, code);
 
 		if (response) {
@@ -88,8 +106,14 @@ public class PaymentAccountInterfaceImpl implements PaymentAccountInterface {
 
 	@Override @Transactional
 	public double transferAmount(String fromAccountNumber, String toAccountNumber, double amount, String username, String code) {
+		rateLimiter.check(RateLimiter.PAYMENT_ACCOUNT, fromAccountNumber);
+		return floraMetrics.recordPayment("transfer",
+				() -> doTransfer(fromAccountNumber, toAccountNumber, amount, username, code));
+	}
+
+	private double doTransfer(String fromAccountNumber, String toAccountNumber, double amount, String username, String code) {
 
-		withdraw(fromAccountNumber, amount, username, code);
+		doWithdraw(fromAccountNumber, amount, username, code);
 
 		if (paymentAccountDao.findByAccountNumber(toAccountNumber).isPresent()) {
 			PaymentAccount payment = getAccount(toAccountNumber);
@@ -0,0 +1,164 @@
+package org.example.florawhisperbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.florawhisperbackend.dao.CategoryDao;
+import org.example.florawhisperbackend.dao.CheckoutDao;
+import org.example.florawhisperbackend.dao.DailyPlantSalesDao;
+import org.example.florawhisperbackend.dao.DailySalesDao;
+import org.example.florawhisperbackend.dao.RollupLockDao;
+import org.example.florawhisperbackend.dto.FloraDto.CategorySalesDto;
+import org.example.florawhisperbackend.dto.FloraDto.DailySalesDto;
+import org.example.florawhisperbackend.dto.FloraDto.PlantSalesDto;
+import org.example.florawhisperbackend.entity.Category;
+import org.example.florawhisperbackend.entity.Checkout;
+import org.example.florawhisperbackend.entity.DailyPlantSales;
+import org.example.florawhisperbackend.entity.OrderLine;
+import org.example.florawhisperbackend.entity.RollupLock;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains per-day sales rollups so reporting reads scale with the number of days
+ * rather than the number of orders. Daily revenue is the order total (including shipping
+ * and tax); plant and category revenue is unit price times quantity.
+ * <p>
+ * A rebuild and the per-checkout upserts are serialized through the {@code rollup_lock} row:
+ * checkouts share it from before their order rows are written until they commit, a rebuild
+ * takes it exclusively. A rebuild therefore counts every order exactly once, either in its
+ * scan or through the upsert of a checkout that waited for it.
+ */
+@Service
+@RequiredArgsConstructor
+public class SalesRollupService implements InitializingBean {
+
+    private static final int DEFAULT_RANGE_DAYS = 30;
+
+    private final DailySalesDao dailySalesDao;
+    private final DailyPlantSalesDao dailyPlantSalesDao;
+    private final CategoryDao categoryDao;
+    private final CheckoutDao checkoutDao;
+    private final RollupLockDao rollupLockDao;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                if (!rollupLockDao.existsById(RollupLock.SALES)) {
+                    rollupLockDao.saveAndFlush(new RollupLock(RollupLock.SALES));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created it first
+        }
+    }
+
+    /**
+     * Called from processCheckout before the order is saved. Holding the lock from before the
+     * order rows are written keeps a rebuild's scan from ever waiting on them, which could deadlock.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lockForCheckout() {
+        lock(rollupLockDao.lockShared(RollupLock.SALES));
+    }
+
+    // Called from processCheckout so the rollups commit or roll back together with the order
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCheckout(Checkout checkout) {
+        dailySalesDao.addOrder(checkout.getOrderDate(), checkout.getTotalAmount(), checkout.getTotalItems());
+
+        for (OrderLine line : checkout.getLines()) {
+            dailyPlantSalesDao.addPlantSale(checkout.getOrderDate(), line.getPlantId(), line.getCategoryId(),
+                    line.getLineTotal(), line.getQuantity());
+        }
+    }
+
+    /**
+     * Recomputes all rollups from the order tables with set-based inserts. Intended for
+     * backfill and repair; run it outside peak hours since it rewrites every rollup row, and
+     * every checkout waits on {@code rollup_lock} until it commits.
+     */
+    @Transactional
+    public String rebuild() {
+        // Waits for checkouts in flight to commit and holds new ones back until the rebuild commits
+        lock(rollupLockDao.lockExclusive(RollupLock.SALES));
+        dailyPlantSalesDao.deleteAllInBatch();
+        dailySalesDao.deleteAllInBatch();
+        int days = dailySalesDao.rebuildFromCheckouts();
+        int plantDays = dailyPlantSalesDao.rebuildFromCheckouts();
+        return "Rebuilt %d daily and %d daily plant rollups.".formatted(days, plantDays);
+    }
+
+    // Runs on every startup while traffic is already served; when it does rebuild, checkouts
+    // stall as for a manual rebuild. It only does so while daily_sales is empty.
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillIfEmpty() {
+        if (dailySalesDao.count() == 0 && checkoutDao.count() > 0) {
+            rebuild();
+        }
+    }
+
+    public List<DailySalesDto> findDailySales(LocalDate from, LocalDate to) {
+        LocalDate end = resolveTo(to);
+        return dailySalesDao.findBySalesDateBetweenOrderBySalesDate(resolveFrom(from, end), end).stream()
+                .map(d -> new DailySalesDto(d.getSalesDate(), d.getRevenue(), d.getUnits(), d.getOrderCount()))
+                .toList();
+    }
+
+    public List<PlantSalesDto> findPlantSales(Long plantId, LocalDate from, LocalDate to) {
+        LocalDate end = resolveTo(to);
+        LocalDate start = resolveFrom(from, end);
+        List<DailyPlantSales> rows = plantId != null
+                ? dailyPlantSalesDao.findByPlantIdAndSalesDateBetweenOrderBySalesDate(plantId, start, end)
+                : dailyPlantSalesDao.findBySalesDateBetweenOrderBySalesDate(start, end);
+        return rows.stream()
+                .map(d -> new PlantSalesDto(d.getSalesDate(), d.getPlantId(), d.getRevenue(), d.getUnits()))
+                .toList();
+    }
+
+    public List<CategorySalesDto> findCategorySales(LocalDate from, LocalDate to) {
+        LocalDate end = resolveTo(to);
+        Map<Long, String> categoryNames = categoryDao.findAll().stream()
+                .collect(Collectors.toMap(Category::getId, Category::getCategoryName));
+        return dailyPlantSalesDao.sumByCategory(resolveFrom(from, end), end).stream()
+                .map(v -> new CategorySalesDto(
+                        v.getSalesDate(),
+                        v.getCategoryId(),
+                        v.getCategoryId() != null ? categoryNames.get(v.getCategoryId()) : null,
+                        v.getRevenue() != null ? v.getRevenue() : 0,
+                        v.getUnits() != null ? v.getUnits() : 0))
+                .toList();
+    }
+
+    private void lock(Optional<RollupLock> lock) {
+        if (lock.isEmpty()) {
+            throw new IllegalStateException("rollup_lock row %d is missing".formatted(RollupLock.SALES));
+        }
+    }
+
+    private LocalDate resolveTo(LocalDate to) {
+        return to != null ? to : LocalDate.now();
+    }
+
+    private LocalDate resolveFrom(LocalDate from, LocalDate to) {
+        LocalDate start = from != null ? from : to.minusDays(DEFAULT_RANGE_DAYS - 1);
+        if (start.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        return start;
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.florawhisperbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.florawhisperbackend.dao.TrendingSnapshotDao;
+import org.example.florawhisperbackend.entity.TrendingSnapshot;
+import org.example.florawhisperbackend.entity.TrendingWindow;
+import org.example.florawhisperbackend.event.CheckoutCompletedEvent;
+import org.example.florawhisperbackend.util.SpaceSavingSketch;
+import org.example.florawhisperbackend.util.SpaceSavingSketch.Estimate;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tracks best-selling plants in memory with one decayed top-K sketch per {@link TrendingWindow}.
+ * Sketches are snapshotted to the database periodically and restored on startup, so a restart
+ * loses at most one snapshot interval of sales.
+ */
+@Service
+@RequiredArgsConstructor
+public class TrendingService implements InitializingBean {
+
+    private final TrendingSnapshotDao trendingSnapshotDao;
+
+    @Value("${app.trending.capacity:200}")
+    private int capacity;
+
+    private final Map<TrendingWindow, SpaceSavingSketch> sketches = new EnumMap<>(TrendingWindow.class);
+
+    @TransactionalEventListener
+    public void onCheckoutCompleted(CheckoutCompletedEvent event) {
+        long timestamp = event.completedAt().toEpochMilli();
+        for (Map.Entry<Long, Integer> entry : event.plantQuantities().entrySet()) {
+            for (SpaceSavingSketch sketch : sketches.values()) {
+                sketch.offer(entry.getKey(), entry.getValue(), timestamp);
+            }
+        }
+    }
+
+    public List<Estimate> top(TrendingWindow window, int limit) {
+        return sketches.get(window).top(Math.max(0, Math.min(limit, capacity)), System.currentTimeMillis());
+    }
+
+    @Scheduled(fixedDelayString = "${app.trending.snapshot-interval-ms:60000}",
+            initialDelayString = "${app.trending.snapshot-interval-ms:60000}")
+    @Transactional
+    public void snapshot() {
+        Instant now = Instant.now();
+        List<TrendingSnapshot> rows = new ArrayList<>();
+        sketches.forEach((window, sketch) -> {
+            for (Estimate estimate : sketch.top(capacity, now.toEpochMilli())) {
+                rows.add(new TrendingSnapshot(window, estimate.item(), estimate.count(), estimate.error(), now));
+            }
+        });
+        trendingSnapshotDao.deleteAllInBatch();
+        trendingSnapshotDao.saveAll(rows);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void restore() {
+        for (TrendingSnapshot row : trendingSnapshotDao.findAll()) {
+            sketches.get(row.getWindow()).restore(row.getPlantId(), row.getScore(), row.getError(),
+                    row.getSnapshotAt().toEpochMilli());
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        long now = System.currentTimeMillis();
+        for (TrendingWindow window : TrendingWindow.values()) {
+            sketches.put(window, new SpaceSavingSketch(capacity, window.getHalfLife().toMillis(), now));
+        }
+    }
+}
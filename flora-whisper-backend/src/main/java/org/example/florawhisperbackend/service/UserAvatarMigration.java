@@ -0,0 +1,109 @@
+package org.example.florawhisperbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.florawhisperbackend.exception.InvalidImageException;
+import org.example.florawhisperbackend.upload.ImageSpooler;
+import org.example.florawhisperbackend.upload.ImageStore;
+import org.example.florawhisperbackend.upload.SpooledImage;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Moves profile images from the legacy {@code users.img} column into {@code user_avatar}. Each
+ * image is streamed through the spooler, which supplies the hash and content type the avatar row
+ * needs, and the legacy column is cleared in the same transaction. Runs once per startup, one
+ * transaction per user. An image that is rejected or fails to move is left where it is and logged,
+ * and the next startup retries it; it never stops the application from starting. The emptied
+ * column can be dropped once every instance runs this version.
+ * <p>
+ * A user who already has an avatar row uploaded it through this version, so it is newer than the
+ * legacy image: only the legacy column is cleared, and the avatar is left alone.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserAvatarMigration {
+
+    private static final int CHUNK_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ImageSpooler imageSpooler;
+    private final ImageStore imageStore;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyImages() {
+        if (!Boolean.TRUE.equals(jdbcTemplate.execute(this::legacyColumnExists))) {
+            return;
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long afterId = 0;
+        while (true) {
+            List<Long> userIds = jdbcTemplate.queryForList(
+                    "SELECT id FROM users WHERE id > ? AND img IS NOT NULL ORDER BY id LIMIT " + CHUNK_SIZE,
+                    Long.class, afterId);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            for (Long userId : userIds) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> migrateUser(userId));
+                } catch (InvalidImageException e) {
+                    System.err.println("Skipping profile image of user " + userId + ": " + e.getReason());
+                } catch (RuntimeException e) {
+                    System.err.println("Failed to migrate profile image of user " + userId + ": " + e.getMessage());
+                }
+            }
+            afterId = userIds.getLast();
+        }
+    }
+
+    private void migrateUser(long userId) {
+        Integer avatars = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_avatar WHERE user_id = ?", Integer.class, userId);
+        if (avatars == null || avatars == 0) {
+            try (SpooledImage image = spoolLegacyImage(userId)) {
+                imageStore.storeUserImage(userId, image);
+            }
+        }
+        jdbcTemplate.update("UPDATE users SET img = NULL WHERE id = ?", userId);
+    }
+
+    private SpooledImage spoolLegacyImage(long userId) {
+        return jdbcTemplate.query("SELECT img FROM users WHERE id = ?", resultSet -> {
+            resultSet.next();
+            try (InputStream in = resultSet.getBinaryStream(1)) {
+                return imageSpooler.spool(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, userId);
+    }
+
+    private Boolean legacyColumnExists(Connection connection) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        for (String table : List.of("users", "USERS")) {
+            for (String column : List.of("img", "IMG")) {
+                try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, table, column)) {
+                    if (columns.next()) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+}
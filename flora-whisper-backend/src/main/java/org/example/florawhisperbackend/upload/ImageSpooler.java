@@ -0,0 +1,177 @@
+package org.example.florawhisperbackend.upload;
+
+import org.example.florawhisperbackend.exception.InvalidImageException;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * Copies uploaded images to a temp file in fixed-size chunks, hashing and size-checking as the
+ * bytes go by, and checks the leading bytes against the image formats we serve. Nothing larger
+ * than one copy buffer is held on the heap, however big the upload.
+ */
+@Component
+public class ImageSpooler implements InitializingBean {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int HEADER_SIZE = 12;
+
+    @Value("${app.uploads.dir:}")
+    private String configuredDir;
+    @Value("${app.uploads.max-image-size:10MB}")
+    private DataSize maxImageSize;
+
+    private Path directory;
+
+    public SpooledImage spool(MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            return spool(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read image", e);
+        }
+    }
+
+    public SpooledImage spool(InputStream in) throws IOException {
+        Path file = newFile("image-");
+        try {
+            Scan scan;
+            try (OutputStream out = Files.newOutputStream(file)) {
+                scan = scan(in, out);
+            }
+            return scan.toImage(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    /** Appends to a partial upload, refusing to let it grow past the image size limit. */
+    public long append(Path file, long offset, InputStream chunk) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file, StandardOpenOption.APPEND)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long size = offset;
+            int read;
+            while ((read = chunk.read(buffer)) != -1) {
+                size += read;
+                checkSize(size);
+                out.write(buffer, 0, read);
+            }
+            return size;
+        }
+    }
+
+    /** Validates and hashes a fully uploaded file in place. */
+    public SpooledImage inspect(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return scan(in, OutputStream.nullOutputStream()).toImage(file);
+        }
+    }
+
+    public Path newFile(String prefix) throws IOException {
+        return Files.createTempFile(directory, prefix, ".part");
+    }
+
+    public long maxImageSize() {
+        return maxImageSize.toBytes();
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        directory = configuredDir.isBlank()
+                ? Path.of(System.getProperty("java.io.tmpdir"), "flora-uploads")
+                : Path.of(configuredDir);
+        Files.createDirectories(directory);
+    }
+
+    private record Scan(long size, String sha256, String contentType) {
+
+        SpooledImage toImage(Path file) {
+            return new SpooledImage(file, size, sha256, contentType);
+        }
+    }
+
+    private Scan scan(InputStream in, OutputStream out) throws IOException {
+        MessageDigest digest = sha256();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        byte[] header = new byte[HEADER_SIZE];
+        int headerLength = 0;
+        String contentType = null;
+        long size = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            size += read;
+            checkSize(size);
+            if (contentType == null) {
+                int take = Math.min(read, HEADER_SIZE - headerLength);
+                System.arraycopy(buffer, 0, header, headerLength, take);
+                headerLength += take;
+                // Reject a non-image as soon as its header is in, not after the whole body
+                if (headerLength == HEADER_SIZE) {
+                    contentType = detect(header);
+                }
+            }
+            digest.update(buffer, 0, read);
+            out.write(buffer, 0, read);
+        }
+        if (contentType == null) {
+            contentType = detect(Arrays.copyOf(header, headerLength));
+        }
+        return new Scan(size, HexFormat.of().formatHex(digest.digest()), contentType);
+    }
+
+    private void checkSize(long size) {
+        if (size > maxImageSize.toBytes()) {
+            throw new InvalidImageException("Image is larger than " + maxImageSize.toMegabytes() + "MB");
+        }
+    }
+
+    private static String detect(byte[] header) {
+        if (startsWith(header, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return "image/png";
+        }
+        if (startsWith(header, 0, 0xFF, 0xD8, 0xFF)) {
+            return "image/jpeg";
+        }
+        if (startsWith(header, 0, 'G', 'I', 'F', '8')) {
+            return "image/gif";
+        }
+        if (startsWith(header, 0, 'R', 'I', 'F', 'F') && startsWith(header, 8, 'W', 'E', 'B', 'P')) {
+            return "image/webp";
+        }
+        throw new InvalidImageException("Unsupported image format; expected PNG, JPEG, GIF or WebP");
+    }
+
+    private static boolean startsWith(byte[] data, int from, int... expected) {
+        if (data.length < from + expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if ((data[from + i] & 0xFF) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.example.florawhisperbackend.upload;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.example.florawhisperbackend.entity.Plant;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * Streams spooled images straight into their LOB columns with {@code setBinaryStream}, so the
+ * image is never materialized as a {@code byte[]} on the entity. The owning row must already be
+ * inserted, and the entity is mapped with dynamic updates so Hibernate's own flush leaves the
+ * column alone. Avatars live in their own table and are upserted. Writes join the caller's
+ * transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageStore {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void storePlantImage(long plantId, SpooledImage image) {
+        try (InputStream in = image.open()) {
+            jdbcTemplate.update("UPDATE plant SET image_url = ?, image_sha256 = ? WHERE id = ?", statement -> {
+                statement.setBinaryStream(1, in, image.size());
+                statement.setString(2, image.sha256());
+                statement.setLong(3, plantId);
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // The second-level cache still holds the entity's old image; drop it before the
+        // after-commit listeners re-read the plant
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public int getOrder() {
+                return Ordered.HIGHEST_PRECEDENCE;
+            }
+
+            @Override
+            public void afterCommit() {
+                entityManagerFactory.getCache().evict(Plant.class, plantId);
+            }
+        });
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void storeUserImage(long userId, SpooledImage image) {
+        try (InputStream in = image.open()) {
+            jdbcTemplate.update("""
+                    INSERT INTO user_avatar (user_id, content_type, image_size, sha256, updated_at, data)
+                    VALUES (?, ?, ?, ?, ?, ?)
+                    ON DUPLICATE KEY UPDATE content_type = VALUES(content_type), image_size = VALUES(image_size),
+                        sha256 = VALUES(sha256), updated_at = VALUES(updated_at), data = VALUES(data)
+                    """, statement -> {
+                statement.setLong(1, userId);
+                statement.setString(2, image.contentType());
+                statement.setLong(3, image.size());
+                statement.setString(4, image.sha256());
+                statement.setTimestamp(5, Timestamp.from(Instant.now()));
+                statement.setBinaryStream(6, in, image.size());
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Copies a user's avatar to {@code out} if it still has the given hash. Returns false when the
+     * avatar was removed or replaced since the caller read its metadata.
+     */
+    @Transactional(readOnly = true)
+    public boolean copyUserImage(long userId, String sha256, OutputStream out) {
+        return Boolean.TRUE.equals(jdbcTemplate.query(
+                "SELECT data FROM user_avatar WHERE user_id = ? AND sha256 = ?",
+                resultSet -> {
+                    if (!resultSet.next()) {
+                        return false;
+                    }
+                    try (InputStream in = resultSet.getBinaryStream(1)) {
+                        in.transferTo(out);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return true;
+                },
+                userId, sha256));
+    }
+}
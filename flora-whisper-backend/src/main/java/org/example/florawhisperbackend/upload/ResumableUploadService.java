@@ -0,0 +1,231 @@
+package org.example.florawhisperbackend.upload;
+
+import lombok.RequiredArgsConstructor;
+import org.example.florawhisperbackend.dto.FloraDto.UploadStatusDto;
+import org.example.florawhisperbackend.exception.NotFoundException;
+import org.example.florawhisperbackend.exception.UploadOffsetMismatchException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Resumable image uploads: the client creates an upload, sends the image as raw chunks tagged with
+ * their starting offset, and after a dropped connection asks for the current offset and carries on
+ * from there. A completed upload is validated like a form upload and then referenced by id from
+ * the plant form instead of a file part.
+ * <p>
+ * Uploads are tracked in memory on the instance that created them and expire after the session
+ * timeout; with several instances, route {@code /api/uploads} with session affinity. Each upload
+ * belongs to the user who created it, who may have at most {@code app.uploads.max-open-per-owner}
+ * of them open at a time.
+ */
+@Service
+@RequiredArgsConstructor
+public class ResumableUploadService {
+
+    private final ImageSpooler imageSpooler;
+
+    @Value("${app.uploads.session-timeout:1h}")
+    private Duration sessionTimeout;
+    @Value("${app.uploads.max-open-per-owner:5}")
+    private int maxOpenPerOwner;
+
+    private final Map<String, Upload> uploads = new ConcurrentHashMap<>();
+    // Open uploads per owner; every upload counted here is also in uploads, and leaves both together
+    private final Map<String, Integer> openPerOwner = new ConcurrentHashMap<>();
+
+    private static final class Upload {
+        private final String id;
+        private final String owner;
+        private final Path file;
+        // Written under the lock, read without it so a status check never waits on a streaming chunk
+        private volatile long offset;
+        private volatile SpooledImage completed;
+        private volatile Instant touchedAt = Instant.now();
+        // Not synchronized: chunks stream while the lock is held, which would pin a virtual thread's carrier
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private Upload(String id, String owner, Path file) {
+            this.id = id;
+            this.owner = owner;
+            this.file = file;
+        }
+    }
+
+    public UploadStatusDto create(String owner) {
+        reserveSlot(owner);
+        try {
+            Upload upload = new Upload(UUID.randomUUID().toString(), owner, imageSpooler.newFile("upload-"));
+            uploads.put(upload.id, upload);
+            return status(upload);
+        } catch (IOException e) {
+            releaseSlot(owner);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public UploadStatusDto status(String id, String owner) {
+        return status(find(id, owner));
+    }
+
+    public UploadStatusDto append(String id, String owner, long offset, InputStream chunk) {
+        Upload upload = find(id, owner);
+        // One writer per upload: a client retrying while its previous chunk is still streaming gets 409 and re-reads the offset
+        if (!upload.lock.tryLock()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Another chunk is being written to upload " + id);
+        }
+        try {
+            if (upload.completed != null) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Upload %s is already complete".formatted(id));
+            }
+            if (offset != upload.offset) {
+                throw new UploadOffsetMismatchException(upload.offset, offset);
+            }
+            boolean appended = false;
+            try {
+                upload.offset = imageSpooler.append(upload.file, offset, chunk);
+                appended = true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                // A broken connection or an oversized chunk leaves part of it on disk; resume after what arrived
+                if (!appended) {
+                    upload.offset = fileSize(upload.file);
+                }
+                upload.touchedAt = Instant.now();
+            }
+            return status(upload);
+        } finally {
+            upload.lock.unlock();
+        }
+    }
+
+    public UploadStatusDto complete(String id, String owner) {
+        Upload upload = find(id, owner);
+        upload.lock.lock();
+        try {
+            if (upload.completed == null) {
+                try {
+                    upload.completed = imageSpooler.inspect(upload.file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            upload.touchedAt = Instant.now();
+            return status(upload);
+        } finally {
+            upload.lock.unlock();
+        }
+    }
+
+    public void cancel(String id, String owner) {
+        discard(find(id, owner));
+    }
+
+    /** Hands a completed upload of {@code owner} over to the caller, who closes it once the image is stored. */
+    public SpooledImage take(String id, String owner) {
+        Upload upload = find(id, owner);
+        if (!remove(upload)) {
+            throw new NotFoundException("Upload not found: " + id);
+        }
+        upload.lock.lock();
+        try {
+            if (upload.completed == null) {
+                discard(upload);
+                throw new NotFoundException("Upload %s was not completed".formatted(id));
+            }
+            return upload.completed;
+        } finally {
+            upload.lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.uploads.cleanup-interval-ms:600000}")
+    public void expireIdle() {
+        Instant cutoff = Instant.now().minus(sessionTimeout);
+        uploads.values().stream()
+                .filter(upload -> upload.touchedAt.isBefore(cutoff))
+                .forEach(this::discard);
+    }
+
+    private Upload find(String id, String owner) {
+        Upload upload = uploads.get(id);
+        if (upload == null || !Objects.equals(upload.owner, owner)) {
+            throw new NotFoundException("Upload not found: " + id);
+        }
+        return upload;
+    }
+
+    private void reserveSlot(String owner) {
+        openPerOwner.compute(owner, (key, open) -> {
+            int count = open == null ? 0 : open;
+            if (count >= maxOpenPerOwner) {
+                throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+                        "At most %d uploads may be open at a time; complete or cancel one first".formatted(maxOpenPerOwner));
+            }
+            return count + 1;
+        });
+    }
+
+    private void releaseSlot(String owner) {
+        openPerOwner.computeIfPresent(owner, (key, open) -> open > 1 ? open - 1 : null);
+    }
+
+    // False when another caller (a take, cancel or expiry) removed it first
+    private boolean remove(Upload upload) {
+        if (!uploads.remove(upload.id, upload)) {
+            return false;
+        }
+        releaseSlot(upload.owner);
+        return true;
+    }
+
+    private void discard(Upload upload) {
+        remove(upload);
+        upload.lock.lock();
+        try {
+            try {
+                Files.deleteIfExists(upload.file);
+            } catch (IOException e) {
+                System.err.println("Could not delete upload " + upload.id + ": " + e.getMessage());
+            }
+        } finally {
+            upload.lock.unlock();
+        }
+    }
+
+    private UploadStatusDto status(Upload upload) {
+        SpooledImage image = upload.completed;
+        return new UploadStatusDto(
+                upload.id,
+                upload.offset,
+                imageSpooler.maxImageSize(),
+                image != null,
+                image != null ? image.sha256() : null,
+                image != null ? image.contentType() : null
+        );
+    }
+
+    private static long fileSize(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
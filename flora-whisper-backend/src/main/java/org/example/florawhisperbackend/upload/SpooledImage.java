@@ -0,0 +1,26 @@
+package org.example.florawhisperbackend.upload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A validated image waiting on disk to be streamed into the database. Closing it deletes the file.
+ */
+public record SpooledImage(Path file, long size, String sha256, String contentType) implements AutoCloseable {
+
+    public InputStream open() throws IOException {
+        return Files.newInputStream(file);
+    }
+
+    @Override
+    public void close() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
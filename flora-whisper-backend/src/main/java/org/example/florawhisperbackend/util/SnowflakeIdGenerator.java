@@ -0,0 +1,89 @@
+package org.example.florawhisperbackend.util;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free, time-ordered 64-bit id generator in the Snowflake layout:
+ * 41 bits of milliseconds since {@link #EPOCH}, 10 bits of node id, 12 bits of sequence.
+ * <p>
+ * The last issued timestamp and sequence are packed into one {@link AtomicLong} and advanced
+ * with compare-and-set, so concurrent callers never block. The generator keeps a logical clock
+ * that never goes backwards: if the wall clock rolls back, or a millisecond's 4096 sequence
+ * numbers run out, ids continue from the last issued millisecond (borrowing the next one when
+ * needed) until the wall clock catches up. Ids from one node are therefore strictly increasing,
+ * and ids from different nodes cannot collide as long as node ids are distinct.
+ */
+public class SnowflakeIdGenerator {
+
+    public static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final LongSupplier clock;
+    private final long epochMillis = EPOCH.toEpochMilli();
+    // (timestamp - epoch) << SEQUENCE_BITS | sequence of the last issued id
+    private final AtomicLong state = new AtomicLong(-1);
+
+    public SnowflakeIdGenerator(long nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    public SnowflakeIdGenerator(long nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    public long nextId() {
+        while (true) {
+            long current = state.get();
+            long lastTimestamp = current >> SEQUENCE_BITS;
+            long now = clock.getAsLong() - epochMillis;
+
+            long timestamp;
+            long sequence;
+            if (now > lastTimestamp) {
+                timestamp = now;
+                sequence = 0;
+            } else if ((current & SEQUENCE_MASK) < SEQUENCE_MASK) {
+                // Same millisecond, or the wall clock moved backwards
+                timestamp = lastTimestamp;
+                sequence = (current & SEQUENCE_MASK) + 1;
+            } else {
+                timestamp = lastTimestamp + 1;
+                sequence = 0;
+            }
+
+            long next = (timestamp << SEQUENCE_BITS) | sequence;
+            if (state.compareAndSet(current, next)) {
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    /** Fixed-width upper-case base-36 form of {@link #nextId()}; sorts in issue order. */
+    public String nextCode() {
+        return toCode(nextId());
+    }
+
+    public static String toCode(long id) {
+        String code = Long.toString(id, 36).toUpperCase();
+        return "0".repeat(13 - code.length()) + code;
+    }
+
+    public static Instant timestampOf(long id) {
+        return EPOCH.plusMillis(id >>> (NODE_BITS + SEQUENCE_BITS));
+    }
+
+    public static long nodeIdOf(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+}
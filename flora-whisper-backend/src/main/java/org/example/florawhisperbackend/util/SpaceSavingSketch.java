@@ -0,0 +1,122 @@
+package org.example.florawhisperbackend.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving top-K sketch with exponentially time-decayed counts.
+ * <p>
+ * Counts use forward decay: each weight is scaled up by {@code 2^((t - landmark) / halfLife)}
+ * when it is offered, so existing counters never need to be touched as time passes. Reads
+ * scale back down to "now". The landmark is moved forward before the scale factor can overflow.
+ * At most {@code capacity} items are tracked; a new item replaces the smallest counter and
+ * inherits its count as the error bound, as in the classic Space-Saving algorithm.
+ */
+public class SpaceSavingSketch {
+
+    // Rescale once weights are amplified by 2^64; far below double overflow
+    private static final double MAX_EXPONENT = 64;
+
+    private final int capacity;
+    private final double halfLifeMillis;
+    private final Map<Long, Counter> counters = new HashMap<>();
+    private long landmark;
+
+    public record Estimate(long item, double count, double error) {}
+
+    private static final class Counter {
+        private final long item;
+        private double count;
+        private final double error;
+
+        private Counter(long item, double count, double error) {
+            this.item = item;
+            this.count = count;
+            this.error = error;
+        }
+    }
+
+    public SpaceSavingSketch(int capacity, long halfLifeMillis, long nowMillis) {
+        if (capacity <= 0 || halfLifeMillis <= 0) {
+            throw new IllegalArgumentException("Capacity and half-life must be positive");
+        }
+        this.capacity = capacity;
+        this.halfLifeMillis = halfLifeMillis;
+        this.landmark = nowMillis;
+    }
+
+    public synchronized void offer(long item, double weight, long timestampMillis) {
+        offer(item, weight, 0, timestampMillis);
+    }
+
+    /**
+     * Re-inserts a previously estimated count, e.g. when restoring from a snapshot taken at
+     * {@code timestampMillis}. The count keeps decaying from that time on.
+     */
+    public synchronized void restore(long item, double count, double error, long timestampMillis) {
+        offer(item, count, error, timestampMillis);
+    }
+
+    private void offer(long item, double weight, double error, long timestampMillis) {
+        if (exponent(timestampMillis) > MAX_EXPONENT) {
+            rescale(timestampMillis);
+        }
+        double scale = Math.pow(2, exponent(timestampMillis));
+        double scaledWeight = weight * scale;
+
+        Counter counter = counters.get(item);
+        if (counter != null) {
+            counter.count += scaledWeight;
+        } else if (counters.size() < capacity) {
+            counters.put(item, new Counter(item, scaledWeight, error * scale));
+        } else {
+            Counter min = findMin();
+            counters.remove(min.item);
+            counters.put(item, new Counter(item, min.count + scaledWeight, min.count));
+        }
+    }
+
+    /**
+     * Returns up to {@code k} items with the highest decayed counts as of {@code nowMillis}.
+     */
+    public synchronized List<Estimate> top(int k, long nowMillis) {
+        double scale = Math.pow(2, exponent(nowMillis));
+        List<Counter> sorted = new ArrayList<>(counters.values());
+        sorted.sort(Comparator.comparingDouble((Counter c) -> c.count).reversed());
+
+        List<Estimate> estimates = new ArrayList<>(Math.min(k, sorted.size()));
+        for (Counter counter : sorted.subList(0, Math.min(k, sorted.size()))) {
+            estimates.add(new Estimate(counter.item, counter.count / scale, counter.error / scale));
+        }
+        return estimates;
+    }
+
+    public synchronized int size() {
+        return counters.size();
+    }
+
+    private double exponent(long timestampMillis) {
+        return (timestampMillis - landmark) / halfLifeMillis;
+    }
+
+    private void rescale(long newLandmark) {
+        double factor = Math.pow(2, -exponent(newLandmark));
+        for (Counter counter : List.copyOf(counters.values())) {
+            counters.put(counter.item, new Counter(counter.item, counter.count * factor, counter.error * factor));
+        }
+        landmark = newLandmark;
+    }
+
+    private Counter findMin() {
+        Counter min = null;
+        for (Counter counter : counters.values()) {
+            if (min == null || counter.count < min.count) {
+                min = counter;
+            }
+        }
+        return min;
+    }
+}
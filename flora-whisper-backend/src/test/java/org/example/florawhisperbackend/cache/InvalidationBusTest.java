@@ -0,0 +1,97 @@
+package org.example.florawhisperbackend.cache;
+
+import org.example.florawhisperbackend.dao.CacheInvalidationDao;
+import org.example.florawhisperbackend.entity.CacheInvalidation;
+import org.example.florawhisperbackend.entity.InvalidationScope;
+import org.example.florawhisperbackend.event.CatalogChangedEvent;
+import org.example.florawhisperbackend.event.CatalogChangedEvent.CatalogResource;
+import org.example.florawhisperbackend.event.UserChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Two bus instances sharing one (H2) database, standing in for two backend nodes.
+ */
+@DataJpaTest
+class InvalidationBusTest {
+
+    @Autowired
+    private CacheInvalidationDao cacheInvalidationDao;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Object> receivedByA = new ArrayList<>();
+    private final List<Object> receivedByB = new ArrayList<>();
+    private InvalidationBus nodeA;
+    private InvalidationBus nodeB;
+
+    @BeforeEach
+    void startNodes() {
+        nodeA = node(receivedByA);
+        nodeB = node(receivedByB);
+        nodeA.poll();
+        nodeB.poll();
+    }
+
+    @Test
+    void changesReachTheOtherNodeOnItsNextPoll() {
+        nodeA.onCatalogChanged(new CatalogChangedEvent(CatalogResource.PLANT, 42L));
+        nodeB.onUserChanged(new UserChangedEvent(7L));
+
+        nodeA.poll();
+        nodeB.poll();
+
+        assertEquals(List.of(new UserChangedEvent(7L, true)), receivedByA);
+        assertEquals(List.of(new CatalogChangedEvent(CatalogResource.PLANT, 42L, false, true)), receivedByB);
+    }
+
+    @Test
+    void remoteEventsAreNotWrittenBack() {
+        nodeA.onCatalogChanged(new CatalogChangedEvent(CatalogResource.CATEGORY, 1L, false, true));
+        nodeA.onUserChanged(new UserChangedEvent(1L, true));
+
+        nodeB.poll();
+
+        assertEquals(List.of(), receivedByB);
+    }
+
+    @Test
+    void entriesAreRelayedOnceWhileTheySettleAndAfter() {
+        nodeA.onCatalogChanged(new CatalogChangedEvent(CatalogResource.FLOWER_MEANING, 3L, true));
+        nodeB.poll();
+        nodeB.poll();
+
+        // Let the entry age past the settle time so the cursor moves beyond it
+        CacheInvalidation entry = cacheInvalidationDao.findAll().getFirst();
+        entry.setCreatedAt(Instant.now().minus(Duration.ofMinutes(1)));
+        cacheInvalidationDao.saveAndFlush(entry);
+        nodeB.poll();
+
+        cacheInvalidationDao.save(new CacheInvalidation(InvalidationScope.PLANT, null, false, "node-c", Instant.now()));
+        nodeB.poll();
+
+        assertEquals(List.of(
+                new CatalogChangedEvent(CatalogResource.FLOWER_MEANING, 3L, true, true),
+                new CatalogChangedEvent(CatalogResource.PLANT, null, false, true)
+        ), receivedByB);
+    }
+
+    private InvalidationBus node(List<Object> received) {
+        InvalidationBus bus = new InvalidationBus(cacheInvalidationDao, received::add, transactionManager);
+        ReflectionTestUtils.setField(bus, "settleTime", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(bus, "retention", Duration.ofHours(1));
+        bus.afterPropertiesSet();
+        return bus;
+    }
+}
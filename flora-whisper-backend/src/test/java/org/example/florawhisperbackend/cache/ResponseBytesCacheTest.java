@@ -0,0 +1,86 @@
+package org.example.florawhisperbackend.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.florawhisperbackend.dao.PlantDao;
+import org.example.florawhisperbackend.event.CatalogChangedEvent;
+import org.example.florawhisperbackend.event.CatalogChangedEvent.CatalogResource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ResponseBytesCacheTest {
+
+    private static final List<String> PLANT_KEYS = List.of("all", "category:1", "category:2", "id:10", "id:11");
+
+    private final PlantDao plantDao = mock(PlantDao.class);
+    private final Map<String, Integer> loads = new HashMap<>();
+    private ResponseBytesCache cache;
+
+    @BeforeEach
+    void createCache() {
+        cache = new ResponseBytesCache(new ObjectMapper(), plantDao);
+        ReflectionTestUtils.setField(cache, "maxBytes", 1_000_000L);
+        when(plantDao.findCategoryIdById(10)).thenReturn(Optional.of(1L));
+        PLANT_KEYS.forEach(this::read);
+    }
+
+    @Test
+    void aStockChangeDropsOnlyTheKeysThatShowThePlant() {
+        // The first change to a plant drops every category list, since its old one is unknown
+        cache.onCatalogChanged(new CatalogChangedEvent(CatalogResource.PLANT, 10L));
+        PLANT_KEYS.forEach(this::read);
+        cache.onCatalogChanged(new CatalogChangedEvent(CatalogResource.PLANT, 10L));
+        PLANT_KEYS.forEach(this::read);
+
+        assertEquals(Map.of("all", 3, "category:1", 3, "category:2", 2, "id:10", 3, "id:11", 1), loads);
+    }
+
+    @Test
+    void aMoveAlsoDropsTheListThePlantLeft() {
+        cache.onCatalogChanged(new CatalogChangedEvent(CatalogResource.PLANT, 10L));
+        PLANT_KEYS.forEach(this::read);
+        when(plantDao.findCategoryIdById(10)).thenReturn(Optional.of(2L));
+
+        cache.onCatalogChanged(new CatalogChangedEvent(CatalogResource.PLANT, 10L));
+        PLANT_KEYS.forEach(this::read);
+
+        assertEquals(Map.of("all", 3, "category:1", 3, "category:2", 3, "id:10", 3, "id:11", 1), loads);
+    }
+
+    @Test
+    void aLoadRacingWithAnInvalidationIsNotStored() {
+        cache.onCatalogChanged(new CatalogChangedEvent(CatalogResource.PLANT, 10L));
+        cache.get(CatalogResource.PLANT, "id:10", () -> {
+            cache.onCatalogChanged(new CatalogChangedEvent(CatalogResource.PLANT, 10L));
+            return "stale";
+        });
+
+        read("id:10");
+
+        assertEquals(2, loads.get("id:10"));
+    }
+
+    @Test
+    void categoryChangesStillDropEveryPlantResponse() {
+        cache.onCatalogChanged(new CatalogChangedEvent(CatalogResource.CATEGORY, 1L));
+        PLANT_KEYS.forEach(this::read);
+
+        PLANT_KEYS.forEach(key -> assertEquals(2, loads.get(key), key));
+    }
+
+    private void read(String key) {
+        cache.get(CatalogResource.PLANT, key, () -> {
+            loads.merge(key, 1, Integer::sum);
+            return key;
+        });
+    }
+}
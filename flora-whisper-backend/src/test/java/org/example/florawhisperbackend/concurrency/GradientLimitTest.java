@@ -0,0 +1,88 @@
+package org.example.florawhisperbackend.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GradientLimitTest {
+
+    private static final long NO_LOAD_RTT = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long QUEUED_RTT = TimeUnit.MILLISECONDS.toNanos(40);
+
+    // The filter's defaults
+    private final GradientLimit limit = new GradientLimit(20, 2, 200, 0.2, 1.5);
+
+    @Test
+    void shrinksWhileRequestsQueueAndRecoversAfterwards() {
+        saturate(NO_LOAD_RTT, 200);
+        int unloaded = limit.getLimit();
+        assertEquals(200, unloaded);
+
+        saturate(QUEUED_RTT, 50);
+        int queued = limit.getLimit();
+        assertTrue(queued < unloaded / 4, "Limit only fell to " + queued);
+
+        saturate(NO_LOAD_RTT, 300);
+        assertEquals(unloaded, limit.getLimit());
+    }
+
+    @Test
+    void growsByTheQueueAllowanceWhileLatencyHolds() {
+        saturate(NO_LOAD_RTT, 1);
+        int before = limit.getLimit();
+
+        saturate(NO_LOAD_RTT, 10);
+
+        assertTrue(limit.getLimit() > before);
+    }
+
+    @Test
+    void ignoresSamplesTakenFarBelowTheLimit() {
+        saturate(NO_LOAD_RTT, 20);
+        int before = limit.getLimit();
+
+        for (int i = 0; i < 50; i++) {
+            assertTrue(limit.tryAcquire());
+            limit.release(QUEUED_RTT, 1, false);
+        }
+
+        assertEquals(before, limit.getLimit());
+    }
+
+    @Test
+    void dropsBackOffMultiplicativelyDownToTheMinimum() {
+        assertTrue(limit.tryAcquire());
+        limit.release(NO_LOAD_RTT, 20, true);
+        assertEquals(18, limit.getLimit());
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limit.tryAcquire());
+            limit.release(NO_LOAD_RTT, 20, true);
+        }
+        assertEquals(2, limit.getLimit());
+    }
+
+    @Test
+    void rejectsOnceTheLimitIsInFlight() {
+        for (int i = 0; i < 20; i++) {
+            assertTrue(limit.tryAcquire());
+        }
+        assertFalse(limit.tryAcquire());
+        assertEquals(20, limit.getInFlight());
+
+        limit.release(NO_LOAD_RTT, 19, false);
+        assertEquals(19, limit.getInFlight());
+    }
+
+    // Each sample arrives with the limit fully in flight, as it would under sustained load
+    private void saturate(long rttNanos, int samples) {
+        for (int i = 0; i < samples; i++) {
+            assertTrue(limit.tryAcquire());
+            limit.release(rttNanos, limit.getLimit(), false);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.florawhisperbackend.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.florawhisperbackend.dao.CategoryDao;
+import org.example.florawhisperbackend.entity.Category;
+import org.example.florawhisperbackend.entity.Color;
+import org.example.florawhisperbackend.entity.Flower;
+import org.example.florawhisperbackend.entity.IndoorPlant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.example.florawhisperbackend.metrics.QueryCountMatchers.noNPlusOne;
+import static org.example.florawhisperbackend.metrics.QueryCountMatchers.statements;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.query-budget.strict=true")
+@AutoConfigureMockMvc
+class CatalogQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private CategoryDao categoryDao;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Category category;
+
+    @BeforeEach
+    void createCategory() {
+        // A category of its own, so the response cache of another test cannot answer the request
+        category = new Category("Query count " + UUID.randomUUID());
+        for (int i = 0; i < 6; i++) {
+            category.addPlant(new Flower("Rose " + i, "Red", 10, 5, null, 10, Color.RED, 1));
+            category.addPlant(new IndoorPlant("Fern " + i, "Green", 20, 5, null, 20, "M", true, "Water weekly"));
+        }
+        category = categoryDao.save(category);
+        // Start cold, so the count does not depend on what earlier requests left in the second-level cache
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    // The plants, then their category
+    @Test
+    void plantsOfACategoryAreLoadedWithoutPerRowQueries() throws Exception {
+        mockMvc.perform(get("/api/flora/plants/category/{id}", category.getId()))
+                .andExpect(status().isOk())
+                // Strict mode buffers the body; it must still reach the client once the checks pass
+                .andExpect(jsonPath("$.length()").value(12))
+                .andExpect(statements(2))
+                .andExpect(noNPlusOne());
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.florawhisperbackend.metrics;
+
+import org.example.florawhisperbackend.metrics.QueryTracker.QueryStats;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * MockMvc matchers that pin the SQL a request issues, e.g.
+ * {@code mockMvc.perform(get("/api/flora/plants/1")).andExpect(statements(2)).andExpect(noNPlusOne())}.
+ * Requires {@link QueryCountFilter} in the MockMvc filter chain.
+ */
+public final class QueryCountMatchers {
+
+    private QueryCountMatchers() {
+    }
+
+    public static ResultMatcher statements(int expected) {
+        return result -> assertEquals(expected, stats(result).statements(), "SQL statements");
+    }
+
+    public static ResultMatcher maxStatements(int max) {
+        return result -> {
+            int actual = stats(result).statements();
+            assertTrue(actual <= max, "Expected at most " + max + " SQL statements but was " + actual);
+        };
+    }
+
+    public static ResultMatcher rows(int expected) {
+        return result -> assertEquals(expected, stats(result).rows(), "Entity rows loaded");
+    }
+
+    /**
+     * Fails where {@link QueryCountFilter} would report an N+1 with the default repeat threshold.
+     */
+    public static ResultMatcher noNPlusOne() {
+        return noNPlusOne(QueryBudgetProperties.DEFAULT_REPEAT_THRESHOLD);
+    }
+
+    public static ResultMatcher noNPlusOne(int repeatThreshold) {
+        return result -> {
+            Map<String, Integer> suspects = new LinkedHashMap<>();
+            stats(result).repeated().forEach((sql, count) -> {
+                if (count >= repeatThreshold) {
+                    suspects.put(sql, count);
+                }
+            });
+            assertTrue(suspects.isEmpty(), "Possible N+1 SELECTs: " + suspects);
+        };
+    }
+
+    private static QueryStats stats(MvcResult result) {
+        QueryStats stats = (QueryStats) result.getRequest().getAttribute(QueryTracker.STATS_ATTRIBUTE);
+        assertNotNull(stats, "No query stats on the request; is QueryCountFilter registered?");
+        return stats;
+    }
+}
@@ -0,0 +1,76 @@
+package org.example.florawhisperbackend.service;
+
+import org.example.florawhisperbackend.dao.CatalogChangeDao;
+import org.example.florawhisperbackend.dto.FloraDto.CatalogChangeDto;
+import org.example.florawhisperbackend.dto.FloraDto.CatalogChangesDto;
+import org.example.florawhisperbackend.entity.CatalogChange;
+import org.example.florawhisperbackend.entity.CatalogChangeType;
+import org.example.florawhisperbackend.event.CatalogChangedEvent.CatalogResource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@DataJpaTest
+class CatalogChangeLogServiceTest {
+
+    private static final Instant SETTLED = Instant.now().minus(Duration.ofMinutes(1));
+
+    @Autowired
+    private CatalogChangeDao catalogChangeDao;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private CatalogChangeLogService service;
+
+    @BeforeEach
+    void createService() {
+        // Only DELETE and RESYNC entries are used, so the upsert loaders are never called
+        service = new CatalogChangeLogService(catalogChangeDao, null, null, null, null, transactionManager);
+        ReflectionTestUtils.setField(service, "settleTime", Duration.ofSeconds(2));
+        service.afterPropertiesSet();
+    }
+
+    @Test
+    void readingStopsAtTheFirstUnsettledEntry() {
+        long first = append(CatalogResource.PLANT, 1L, CatalogChangeType.DELETE, SETTLED);
+        // Written by a writer whose clock read later, but committed with a lower id than the next entry
+        append(CatalogResource.PLANT, 2L, CatalogChangeType.DELETE, Instant.now());
+        append(CatalogResource.PLANT, 3L, CatalogChangeType.DELETE, SETTLED);
+
+        CatalogChangesDto changes = service.changesSince(0, 100);
+
+        assertEquals(List.of(1L), changes.changes().stream().map(CatalogChangeDto::id).toList());
+        assertEquals(first, changes.nextSince());
+        assertFalse(changes.hasMore());
+    }
+
+    @Test
+    void compactionKeepsTheLatestEntryPerRowAfterTheLatestResync() {
+        append(CatalogResource.PLANT, 1L, CatalogChangeType.DELETE, SETTLED);
+        append(CatalogResource.PLANT, null, CatalogChangeType.RESYNC, SETTLED);
+        long resync = append(CatalogResource.PLANT, null, CatalogChangeType.RESYNC, SETTLED);
+        append(CatalogResource.PLANT, 2L, CatalogChangeType.DELETE, SETTLED);
+        long latestForTwo = append(CatalogResource.PLANT, 2L, CatalogChangeType.DELETE, SETTLED);
+        long onlyForThree = append(CatalogResource.PLANT, 3L, CatalogChangeType.DELETE, SETTLED);
+        long otherResource = append(CatalogResource.CATEGORY, 1L, CatalogChangeType.DELETE, SETTLED);
+
+        service.compact();
+
+        assertEquals(List.of(resync, latestForTwo, onlyForThree, otherResource),
+                catalogChangeDao.findAll().stream().map(CatalogChange::getId).sorted().toList());
+    }
+
+    private long append(CatalogResource resource, Long entityId, CatalogChangeType type, Instant changedAt) {
+        return catalogChangeDao.save(new CatalogChange(resource, entityId, type, changedAt)).getId();
+    }
+}
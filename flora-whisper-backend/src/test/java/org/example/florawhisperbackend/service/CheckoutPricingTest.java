@@ -0,0 +1,60 @@
+package org.example.florawhisperbackend.service;
+
+import org.example.florawhisperbackend.dao.CategoryDao;
+import org.example.florawhisperbackend.dao.CustomerDao;
+import org.example.florawhisperbackend.dto.CheckoutPlantItemDto;
+import org.example.florawhisperbackend.dto.CheckoutResponseDto;
+import org.example.florawhisperbackend.dto.FloraDto.CheckoutRequestDto;
+import org.example.florawhisperbackend.entity.Category;
+import org.example.florawhisperbackend.entity.Color;
+import org.example.florawhisperbackend.entity.Customer;
+import org.example.florawhisperbackend.entity.Flower;
+import org.example.florawhisperbackend.entity.Plant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+class CheckoutPricingTest {
+
+    @Autowired
+    private FloraService floraService;
+    @Autowired
+    private CategoryDao categoryDao;
+    @Autowired
+    private CustomerDao customerDao;
+    @MockitoBean
+    private PaymentAccountInterface paymentService;
+    // Its upserts are MySQL-only
+    @MockitoBean
+    private SalesRollupService salesRollupService;
+
+    @Test
+    void linesCaptureTheSalePriceWhenOneIsSet() {
+        String suffix = UUID.randomUUID().toString();
+        Category category = new Category("Pricing " + suffix);
+        Plant onSale = new Flower("Tulip", "Yellow", 20, 10, null, 15, Color.YELLOW, 1);
+        Plant listPrice = new Flower("Lily", "White", 12, 10, null, 0, Color.WHITE, 1);
+        category.addPlant(onSale);
+        category.addPlant(listPrice);
+        categoryDao.save(category);
+        Customer customer = customerDao.save(new Customer("pricing-" + suffix, "secret",
+                suffix + "@example.com", "Pat", "Doe", null, LocalDate.now()));
+
+        CheckoutResponseDto response = floraService.processCheckout(new CheckoutRequestDto(
+                Map.of(onSale.getId(), 2, listPrice.getId(), 1), 42, customer.getEmail(),
+                "1 Garden Way", null, "ACC-1", "pat", "000000"));
+
+        Map<Long, Double> unitPrices = response.getPlants().stream()
+                .collect(Collectors.toMap(CheckoutPlantItemDto::getId, CheckoutPlantItemDto::getPrice));
+        assertEquals(Map.of(onSale.getId(), 15.0, listPrice.getId(), 12.0), unitPrices);
+    }
+}
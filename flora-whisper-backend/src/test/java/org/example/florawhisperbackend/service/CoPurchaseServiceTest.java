@@ -0,0 +1,87 @@
+package org.example.florawhisperbackend.service;
+
+import org.example.florawhisperbackend.event.CheckoutCompletedEvent;
+import org.example.florawhisperbackend.service.CoPurchaseService.Related;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CoPurchaseServiceTest {
+
+    private CoPurchaseService service;
+    private long nextCheckoutId = 1;
+
+    @BeforeEach
+    void createService() {
+        // Only checkout events are fed in, so the rebuild query is never run
+        service = new CoPurchaseService(null);
+        ReflectionTestUtils.setField(service, "topN", 3);
+    }
+
+    @Test
+    void ranksByCountThenByLowerId() {
+        checkout(1, 5, 9);
+        checkout(1, 9);
+        checkout(1, 7);
+        checkout(1, 3);
+
+        assertEquals(List.of(new Related(9, 2), new Related(3, 1), new Related(5, 1)), service.related(1, 10));
+        assertEquals(List.of(new Related(9, 2)), service.related(1, 1));
+        assertEquals(List.of(new Related(1, 2), new Related(5, 1)), service.related(9, 10));
+    }
+
+    @Test
+    void keepsOnlyTheTopNPerPlant() {
+        for (long other = 10; other < 20; other++) {
+            checkout(1, other);
+        }
+        checkout(1, 15);
+        checkout(1, 18);
+
+        assertEquals(List.of(new Related(15, 2), new Related(18, 2), new Related(10, 1)), service.related(1, 10));
+    }
+
+    @Test
+    void newCheckoutsChangeTheRankingOnTheNextRead() {
+        checkout(1, 2);
+        checkout(1, 3);
+        assertEquals(List.of(new Related(2, 1), new Related(3, 1)), service.related(1, 10));
+
+        checkout(1, 3);
+        checkout(1, 3);
+
+        assertEquals(List.of(new Related(3, 3), new Related(2, 1)), service.related(1, 10));
+    }
+
+    @Test
+    void singlePlantOrdersAndUnknownPlantsRecommendNothing() {
+        checkout(4);
+
+        assertEquals(List.of(), service.related(4, 10));
+        assertEquals(List.of(), service.related(99, 10));
+    }
+
+    @Test
+    void oversizedBasketsAreCappedBeforeCounting() {
+        // Only the first 50 plants of a basket count, in id order
+        checkout(LongStream.rangeClosed(1, 60).toArray());
+
+        assertEquals(List.of(new Related(2, 1), new Related(3, 1), new Related(4, 1)), service.related(1, 10));
+        assertEquals(List.of(), service.related(55, 10));
+    }
+
+    private void checkout(long... plantIds) {
+        Map<Long, Integer> quantities = LongStream.of(plantIds).boxed()
+                .collect(Collectors.toMap(Function.identity(), id -> 1));
+        service.onCheckoutCompleted(new CheckoutCompletedEvent(nextCheckoutId++, quantities, Instant.now()));
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.florawhisperbackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LongIntHashMapTest {
+
+    @Test
+    void keysThatShareASlotAreProbedPastEachOther() {
+        LongIntHashMap map = new LongIntHashMap();
+        // The default table has 16 slots; all of these hash to the slot of key 1
+        long[] colliding = collidingKeys(1, 16, 5);
+        for (int i = 0; i < 4; i++) {
+            map.addTo(colliding[i], i + 1);
+        }
+        map.addTo(colliding[2], 10);
+
+        assertEquals(4, map.size());
+        assertEquals(1, map.get(colliding[0]));
+        assertEquals(2, map.get(colliding[1]));
+        assertEquals(13, map.get(colliding[2]));
+        assertEquals(4, map.get(colliding[3]));
+        assertEquals(0, map.get(colliding[4]));
+    }
+
+    @Test
+    void growingKeepsEveryEntry() {
+        LongIntHashMap map = new LongIntHashMap(2);
+        Map<Long, Integer> expected = new HashMap<>();
+        for (long i = 1; i <= 10_000; i++) {
+            long key = i * 7919 - 50_000;
+            map.addTo(key, (int) i);
+            expected.merge(key, (int) i, Integer::sum);
+        }
+
+        assertEquals(expected.size(), map.size());
+        expected.forEach((key, value) -> assertEquals(value, map.get(key), "key " + key));
+        assertEquals(expected, toMap(map));
+    }
+
+    @Test
+    void keyZeroIsAnOrdinaryKey() {
+        LongIntHashMap map = new LongIntHashMap();
+        assertEquals(0, map.get(0));
+
+        assertEquals(3, map.addTo(0, 3));
+        assertEquals(5, map.addTo(0, 2));
+        map.addTo(1, 1);
+
+        assertEquals(2, map.size());
+        assertEquals(5, map.get(0));
+        assertEquals(Map.of(0L, 5, 1L, 1), toMap(map));
+
+        map.clear();
+        assertEquals(0, map.size());
+        assertEquals(0, map.get(0));
+        assertEquals(Map.of(), toMap(map));
+    }
+
+    @Test
+    void addingReturnsTheNewValue() {
+        LongIntHashMap map = new LongIntHashMap();
+        assertEquals(4, map.addTo(42, 4));
+        assertEquals(1, map.addTo(42, -3));
+        assertEquals(1, map.size());
+    }
+
+    private static long[] collidingKeys(long from, int capacity, int count) {
+        int slot = LongIntHashMap.mix(from) & (capacity - 1);
+        long[] keys = new long[count];
+        int found = 0;
+        for (long key = from; found < count; key++) {
+            if ((LongIntHashMap.mix(key) & (capacity - 1)) == slot) {
+                keys[found++] = key;
+            }
+        }
+        return keys;
+    }
+
+    private static Map<Long, Integer> toMap(LongIntHashMap map) {
+        Map<Long, Integer> entries = new HashMap<>();
+        map.forEach(entries::put);
+        return entries;
+    }
+}
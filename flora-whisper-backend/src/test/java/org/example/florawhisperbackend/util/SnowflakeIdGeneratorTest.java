@@ -0,0 +1,123 @@
+package org.example.florawhisperbackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final int NODES = 4;
+    private static final int THREADS_PER_NODE = 4;
+    private static final int IDS_PER_THREAD = 100_000;
+
+    @Test
+    void idsAreUniqueAcrossThreadsAndNodes() throws Exception {
+        Set<Long> ids = ConcurrentHashMap.newKeySet(NODES * THREADS_PER_NODE * IDS_PER_THREAD);
+        ExecutorService executor = Executors.newFixedThreadPool(NODES * THREADS_PER_NODE);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> results = new ArrayList<>();
+        try {
+            for (int node = 0; node < NODES; node++) {
+                SnowflakeIdGenerator generator = new SnowflakeIdGenerator(node);
+                for (int thread = 0; thread < THREADS_PER_NODE; thread++) {
+                    results.add(executor.submit(() -> {
+                        long[] generated = new long[IDS_PER_THREAD];
+                        start.await();
+                        for (int i = 0; i < IDS_PER_THREAD; i++) {
+                            generated[i] = generator.nextId();
+                        }
+                        return generated;
+                    }));
+                }
+            }
+
+            long started = System.nanoTime();
+            start.countDown();
+            List<long[]> batches = new ArrayList<>();
+            for (Future<long[]> result : results) {
+                batches.add(result.get(60, TimeUnit.SECONDS));
+            }
+            double seconds = (System.nanoTime() - started) / 1e9;
+
+            for (long[] batch : batches) {
+                for (int i = 0; i < batch.length; i++) {
+                    assertTrue(ids.add(batch[i]), "duplicate id " + batch[i]);
+                    if (i > 0) {
+                        assertTrue(batch[i] > batch[i - 1], "ids from one thread must increase");
+                    }
+                }
+            }
+            int total = NODES * THREADS_PER_NODE * IDS_PER_THREAD;
+            assertEquals(total, ids.size());
+            // Deliberately loose so slow CI machines pass; a single node manages millions per second
+            assertTrue(total / seconds > 100_000, "throughput was " + (long) (total / seconds) + " ids/s");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void keepsIncreasingWhenTheClockMovesBackwards() {
+        AtomicLong clock = new AtomicLong(SnowflakeIdGenerator.EPOCH.toEpochMilli() + 10_000);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7, clock::get);
+
+        long previous = generator.nextId();
+        clock.addAndGet(-5_000);
+        for (int i = 0; i < 10_000; i++) {
+            long next = generator.nextId();
+            assertTrue(next > previous);
+            previous = next;
+        }
+        clock.addAndGet(10_000);
+        assertTrue(generator.nextId() > previous);
+    }
+
+    @Test
+    void borrowsTheNextMillisecondWhenTheSequenceRunsOut() {
+        long now = SnowflakeIdGenerator.EPOCH.toEpochMilli() + 1_000;
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, () -> now);
+
+        Set<Long> ids = new HashSet<>();
+        long previous = -1;
+        for (int i = 0; i < 3 * 4096; i++) {
+            long id = generator.nextId();
+            assertTrue(id > previous);
+            assertTrue(ids.add(id));
+            previous = id;
+        }
+        assertEquals(1_002, SnowflakeIdGenerator.timestampOf(previous).toEpochMilli()
+                - SnowflakeIdGenerator.EPOCH.toEpochMilli());
+        assertEquals(1, SnowflakeIdGenerator.nodeIdOf(previous));
+    }
+
+    @Test
+    void codesAreFixedWidthAndSortInIssueOrder() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3);
+        String first = generator.nextCode();
+        String second = generator.nextCode();
+
+        assertEquals(13, first.length());
+        assertTrue(first.compareTo(second) < 0);
+        assertEquals("0000000000001", SnowflakeIdGenerator.toCode(1));
+    }
+
+    @Test
+    void rejectsNodeIdsOutsideTenBits() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(-1));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1));
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.florawhisperbackend.util;
+
+import org.example.florawhisperbackend.util.SpaceSavingSketch.Estimate;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpaceSavingSketchTest {
+
+    private static final long HOUR = 3_600_000;
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    void heavyHittersSurviveALongTailOfOneOffItems() {
+        // Any item seen more than 10,000 / 20 times is guaranteed a counter
+        SpaceSavingSketch sketch = new SpaceSavingSketch(20, 24 * HOUR, START);
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            // Items 1-3 take about 30% of the stream; the rest is spread over 100,000 rarely repeated items
+            long item = random.nextInt(10) < 3 ? 1 + random.nextInt(3) : 1_000 + random.nextInt(100_000);
+            sketch.offer(item, 1, START);
+        }
+
+        List<Long> top = sketch.top(3, START).stream().map(Estimate::item).sorted().toList();
+        assertEquals(List.of(1L, 2L, 3L), top);
+    }
+
+    @Test
+    void estimatesNeverUndercountAndBoundTheirOvercount() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(4, 24 * HOUR, START);
+        int[] trueCounts = new int[10];
+        for (int i = 0; i < 200; i++) {
+            int item = i % 3 == 0 ? i % 10 : 0;
+            trueCounts[item]++;
+            sketch.offer(item, 1, START);
+        }
+
+        for (Estimate estimate : sketch.top(4, START)) {
+            int trueCount = trueCounts[(int) estimate.item()];
+            assertTrue(estimate.count() >= trueCount, "Undercounted " + estimate);
+            assertTrue(estimate.count() - estimate.error() <= trueCount, "Error bound too small for " + estimate);
+        }
+    }
+
+    @Test
+    void recentActivityOutranksOlderActivityOfTheSameSize() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(10, HOUR, START);
+        sketch.offer(1, 10, START);
+        sketch.offer(2, 10, START + 2 * HOUR);
+        sketch.offer(3, 6, START + 2 * HOUR);
+
+        List<Estimate> top = sketch.top(3, START + 2 * HOUR);
+
+        // Two half-lives leave item 1 with a quarter of its weight
+        assertEquals(List.of(2L, 3L, 1L), top.stream().map(Estimate::item).toList());
+        assertEquals(2.5, top.get(2).count(), 1e-9);
+        assertEquals(10, top.get(0).count(), 1e-9);
+    }
+
+    @Test
+    void countsKeepDecayingAcrossARescale() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(10, HOUR, START);
+        sketch.offer(1, 8, START);
+        // Past 64 half-lives the landmark moves forward; item 1 must still decay from its own time
+        long later = START + 70 * HOUR;
+        sketch.offer(2, 1, later);
+
+        List<Estimate> top = sketch.top(2, later);
+        assertEquals(2L, top.get(0).item());
+        assertEquals(1, top.get(0).count(), 1e-9);
+        assertEquals(8 * Math.pow(2, -70), top.get(1).count(), 1e-30);
+    }
+
+    @Test
+    void neverTracksMoreThanItsCapacity() {
+        SpaceSavingSketch sketch = new SpaceSavingSketch(5, HOUR, START);
+        for (long item = 0; item < 1_000; item++) {
+            sketch.offer(item, 1, START + item);
+            assertTrue(sketch.size() <= 5);
+        }
+
+        assertEquals(5, sketch.size());
+        assertEquals(5, sketch.top(100, START + 1_000).size());
+        assertEquals(2, sketch.top(2, START + 1_000).size());
+    }
+
+    @Test
+    void rejectsNonPositiveCapacityOrHalfLife() {
+        assertThrows(IllegalArgumentException.class, () -> new SpaceSavingSketch(0, HOUR, START));
+        assertThrows(IllegalArgumentException.class, () -> new SpaceSavingSketch(5, 0, START));
+    }
+}
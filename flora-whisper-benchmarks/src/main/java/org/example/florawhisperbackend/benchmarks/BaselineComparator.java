@@ -0,0 +1,80 @@
+package org.example.florawhisperbackend.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result file against a stored baseline and prints one line per benchmark.
+ * Exits with status 1 when any benchmark got slower than the threshold (default 10%).
+ * <pre>
+ * java -cp target/benchmarks.jar org.example.florawhisperbackend.benchmarks.BaselineComparator \
+ *     baselines/baseline.json target/jmh-result.json [thresholdPercent]
+ * </pre>
+ */
+public class BaselineComparator {
+
+    private record Score(String mode, double score, double error, String unit) {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparator <baseline.json> <result.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        Map<String, Score> baseline = read(new File(args[0]));
+        Map<String, Score> current = read(new File(args[1]));
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+
+        int regressions = 0;
+        System.out.printf("%-70s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Score> entry : current.entrySet()) {
+            Score now = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null || !before.unit().equals(now.unit())) {
+                System.out.printf("%-70s %14s %14.3f %9s  (new)%n", entry.getKey(), "-", now.score(), "-");
+                continue;
+            }
+            double change = (now.score() - before.score()) / before.score() * 100;
+            // Throughput modes improve upwards, time modes downwards
+            double slowdown = "thrpt".equals(now.mode()) ? -change : change;
+            // Differences inside the combined error bars are noise, not regressions
+            boolean significant = Math.abs(now.score() - before.score()) > before.error() + now.error();
+            boolean regressed = slowdown > threshold && significant;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-70s %14.3f %14.3f %+8.1f%%%s%n", entry.getKey(), before.score(), now.score(),
+                    change, regressed ? "  REGRESSION" : "");
+        }
+        baseline.keySet().stream()
+                .filter(key -> !current.containsKey(key))
+                .forEach(key -> System.out.printf("%-70s  (missing from current run)%n", key));
+
+        System.out.printf("%d regression(s) over %.1f%%%n", regressions, threshold);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, Score> read(File file) throws IOException {
+        Map<String, Score> scores = new TreeMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file)) {
+            Map<String, String> params = new LinkedHashMap<>();
+            run.path("params").fields().forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+            String key = run.path("benchmark").asText().replaceFirst("^.*\\.benchmarks\\.", "")
+                    + (params.isEmpty() ? "" : params.toString());
+            JsonNode metric = run.path("primaryMetric");
+            scores.put(key, new Score(
+                    run.path("mode").asText(),
+                    metric.path("score").asDouble(),
+                    metric.path("scoreError").asDouble(0),
+                    metric.path("scoreUnit").asText()));
+        }
+        return scores;
+    }
+}
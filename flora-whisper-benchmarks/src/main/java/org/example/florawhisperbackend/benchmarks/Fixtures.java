@@ -0,0 +1,118 @@
+package org.example.florawhisperbackend.benchmarks;
+
+import org.example.florawhisperbackend.dto.FloraDto.FlowerMeaningResponseDto;
+import org.example.florawhisperbackend.entity.Category;
+import org.example.florawhisperbackend.entity.Checkout;
+import org.example.florawhisperbackend.entity.Color;
+import org.example.florawhisperbackend.entity.Customer;
+import org.example.florawhisperbackend.entity.Flower;
+import org.example.florawhisperbackend.entity.IndoorPlant;
+import org.example.florawhisperbackend.entity.OrderLine;
+import org.example.florawhisperbackend.entity.Plant;
+import org.example.florawhisperbackend.entity.Season;
+import org.example.florawhisperbackend.entity.ShippingStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+// Deterministic sample data shaped like the production catalog
+final class Fixtures {
+
+    private static final Color[] COLORS = Color.values();
+
+    private Fixtures() {
+    }
+
+    static List<Plant> plants(int count, int imageBytes) {
+        Random random = new Random(42);
+        Category blooms = new Category("Blooms");
+        Category greenery = new Category("Greenery");
+        List<Plant> plants = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] image = null;
+            if (imageBytes > 0) {
+                image = new byte[imageBytes];
+                random.nextBytes(image);
+            }
+            Plant plant;
+            if (i % 2 == 0) {
+                plant = new Flower("Rose " + i, "A fragrant garden rose, hand tied. ".repeat(4),
+                        10 + i % 40, 50, image, 0, COLORS[i % COLORS.length], 12);
+                plant.setCategory(blooms);
+            } else {
+                IndoorPlant indoorPlant = new IndoorPlant();
+                indoorPlant.setName("Monstera " + i);
+                indoorPlant.setDescription("Split-leaf philodendron for bright, indirect light. ".repeat(4));
+                indoorPlant.setPrice(25 + i % 60);
+                indoorPlant.setStock(20);
+                indoorPlant.setImageUrl(image);
+                indoorPlant.setPlantSize("MEDIUM");
+                indoorPlant.setIsEasyToCare(true);
+                indoorPlant.setCareInstructions("Water weekly; let the top soil dry out between waterings.");
+                indoorPlant.setCategory(greenery);
+                plant = indoorPlant;
+            }
+            plant.setId(i + 1);
+            plants.add(plant);
+        }
+        return plants;
+    }
+
+    static Checkout checkout(int lineCount) {
+        Customer customer = new Customer("alice", "secret", "alice@example.com", "Alice", "Gardener",
+                "0123456789", LocalDate.of(2025, 1, 1));
+        Checkout checkout = new Checkout();
+        checkout.setId(1);
+        checkout.setOrderCode("PLANT-0000000000001");
+        checkout.setOrderDate(LocalDate.of(2025, 5, 1));
+        checkout.setStatus("PAID");
+        checkout.setShippingStatus(ShippingStatus.PENDING);
+        checkout.setShippingAddress("1 Garden Lane");
+        checkout.setCustomer(customer);
+        double total = 0;
+        for (int i = 0; i < lineCount; i++) {
+            OrderLine line = new OrderLine();
+            line.setPlantId(i + 1);
+            line.setPlantName("Rose " + i);
+            line.setPlantType("FLOWER");
+            line.setCategoryName("Blooms");
+            line.setColor(COLORS[i % COLORS.length].name());
+            line.setPiece(12);
+            line.setUnitPrice(19.5);
+            line.setQuantity(1 + i % 3);
+            checkout.addLine(line);
+            total += line.getLineTotal();
+        }
+        checkout.setTotalAmount(total);
+        return checkout;
+    }
+
+    static List<FlowerMeaningResponseDto> flowerMeanings(int count) {
+        List<FlowerMeaningResponseDto> meanings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            meanings.add(new FlowerMeaningResponseDto(
+                    (long) i + 1,
+                    "Rose " + i,
+                    "Rosa",
+                    "Love and passion",
+                    "Romance, gratitude and admiration",
+                    "Roses have been cultivated for thousands of years. ".repeat(6),
+                    "Plant in well-drained soil in full sun.",
+                    "Deadhead spent blooms and water at the base.",
+                    Season.SPRING_SUMMER,
+                    List.of("anniversary", "valentines", "wedding"),
+                    List.of("Symbol of the goddess Venus", "National flower of England"),
+                    List.of("https://example.com/rose-1.jpg", "https://example.com/rose-2.jpg"),
+                    "May to October",
+                    "Red, pink, white, yellow",
+                    Map.of(Color.RED, "Love", Color.WHITE, "Purity", Color.YELLOW, "Friendship"),
+                    "Asia",
+                    true
+            ));
+        }
+        return meanings;
+    }
+}
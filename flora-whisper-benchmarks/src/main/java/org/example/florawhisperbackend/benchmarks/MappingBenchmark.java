@@ -0,0 +1,61 @@
+package org.example.florawhisperbackend.benchmarks;
+
+import org.example.florawhisperbackend.dto.CheckoutResponseDto;
+import org.example.florawhisperbackend.dto.PlantDto;
+import org.example.florawhisperbackend.entity.Checkout;
+import org.example.florawhisperbackend.entity.Plant;
+import org.example.florawhisperbackend.service.FloraMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping as done for catalog and order history responses. imageBytes 0 is a plant
+ * without an image; larger values show the cost of Base64-encoding the stored image.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"0", "65536"})
+    private int imageBytes;
+
+    private final FloraMapper mapper = new FloraMapper();
+    private List<Plant> plants;
+    private Checkout checkout;
+
+    @Setup
+    public void setUp() {
+        plants = Fixtures.plants(50, imageBytes);
+        checkout = Fixtures.checkout(8);
+    }
+
+    @Benchmark
+    public void toPlantDto(Blackhole blackhole) {
+        for (Plant plant : plants) {
+            PlantDto dto = mapper.toPlantDto(plant);
+            blackhole.consume(dto);
+        }
+    }
+
+    @Benchmark
+    public CheckoutResponseDto toCheckoutResponse() {
+        return mapper.toCheckoutResponse(checkout);
+    }
+}
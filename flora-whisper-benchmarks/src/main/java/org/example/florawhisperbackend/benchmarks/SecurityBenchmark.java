@@ -0,0 +1,79 @@
+package org.example.florawhisperbackend.benchmarks;
+
+import org.example.florawhisperbackend.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request authentication costs: issuing and validating a JWT, and verifying a password with
+ * BCrypt. Cost 10 is what the backend's default {@code BCryptPasswordEncoder} uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecurityBenchmark {
+
+    @Param({"10"})
+    private int bcryptCost;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private Authentication authentication;
+    private String token;
+    private BCryptPasswordEncoder passwordEncoder;
+    private String passwordHash;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtTokenProvider = new JwtTokenProvider();
+        set(jwtTokenProvider, "jwtSecret", "benchmarkSecretKeyThatIsLongEnoughForHS256Signing");
+        set(jwtTokenProvider, "jwtExpiration", 86_400_000L);
+        jwtTokenProvider.afterPropertiesSet();
+        authentication = new UsernamePasswordAuthenticationToken("alice", null, List.of());
+        token = jwtTokenProvider.generateToken(authentication);
+
+        passwordEncoder = new BCryptPasswordEncoder(bcryptCost);
+        passwordHash = passwordEncoder.encode("correct horse battery staple");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public boolean bcryptMatches() {
+        return passwordEncoder.matches("correct horse battery staple", passwordHash);
+    }
+
+    // The provider reads its settings through @Value fields; there is no Spring context here
+    private static void set(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
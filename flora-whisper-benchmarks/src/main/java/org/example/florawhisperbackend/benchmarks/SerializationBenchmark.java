@@ -0,0 +1,55 @@
+package org.example.florawhisperbackend.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.example.florawhisperbackend.dto.FloraDto.FlowerMeaningResponseDto;
+import org.example.florawhisperbackend.dto.PlantDto;
+import org.example.florawhisperbackend.service.FloraMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Jackson serialization of the catalog list responses, with the modules Spring Boot registers
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"20", "200"})
+    private int size;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private List<PlantDto> plants;
+    private List<FlowerMeaningResponseDto> flowerMeanings;
+
+    @Setup
+    public void setUp() {
+        FloraMapper mapper = new FloraMapper();
+        plants = Fixtures.plants(size, 0).stream().map(mapper::toPlantDto).toList();
+        flowerMeanings = Fixtures.flowerMeanings(size);
+    }
+
+    @Benchmark
+    public byte[] plantDtos() throws Exception {
+        return objectMapper.writeValueAsBytes(plants);
+    }
+
+    @Benchmark
+    public byte[] flowerMeaningDtos() throws Exception {
+        return objectMapper.writeValueAsBytes(flowerMeanings);
+    }
+}
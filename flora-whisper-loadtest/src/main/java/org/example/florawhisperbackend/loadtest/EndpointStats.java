@@ -0,0 +1,48 @@
+package org.example.florawhisperbackend.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and error counts for one endpoint. Latency runs from the request's scheduled start, not
+ * from when it was actually sent, so a stalled server shows up as queueing delay instead of being
+ * hidden (coordinated omission).
+ */
+final class EndpointStats {
+
+    private static final long MAX_TRACKED_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final String endpoint;
+    private final Histogram latencyMicros = new ConcurrentHistogram(MAX_TRACKED_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    void record(long latencyNanos, boolean error) {
+        latencyMicros.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_TRACKED_MICROS));
+        if (error) {
+            errors.increment();
+        }
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    Histogram histogram() {
+        return latencyMicros;
+    }
+
+    long count() {
+        return latencyMicros.getTotalCount();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.florawhisperbackend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.florawhisperbackend.loadtest.Seeder.SeedData;
+import org.example.florawhisperbackend.loadtest.Seeder.SeededPlant;
+import org.example.florawhisperbackend.loadtest.Seeder.SeededUser;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Issues one request per scenario against the running backend over loopback HTTP. Customers are
+ * picked at random; their JWTs are obtained up front so authenticated scenarios don't pay for a
+ * login each time.
+ */
+final class FloraClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+    private static final String[] COLORS = {"RED", "WHITE", "YELLOW", "PINK"};
+    private static final String[] SEARCH_TERMS = {"Rose", "Lily", "Orchid", "Fern", "Ficus", "Tulip"};
+
+    record Call(String endpoint, HttpRequest request) {}
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final SeedData data;
+    private final Map<String, String> tokens = new ConcurrentHashMap<>();
+
+    FloraClient(HttpClient httpClient, int port, SeedData data) {
+        this.httpClient = httpClient;
+        this.baseUrl = "http://localhost:" + port + "/api";
+        this.data = data;
+    }
+
+    void loginAll() throws IOException, InterruptedException {
+        for (SeededUser user : data.users()) {
+            HttpResponse<String> response = httpClient.send(login(user).request(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Login failed for " + user.username() + ": " + response.body());
+            }
+            tokens.put(user.username(), objectMapper.readTree(response.body()).path("token").asText());
+        }
+    }
+
+    Call next(Scenario scenario) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        SeededUser user = data.users().get(random.nextInt(data.users().size()));
+        return switch (scenario) {
+            case BROWSE -> browse(random);
+            case SEARCH -> search(random);
+            case LOGIN -> login(user);
+            case CHECKOUT -> checkout(user, random);
+            case HISTORY -> new Call("GET /flora/history", authorized(user, get("/flora/history")).build());
+        };
+    }
+
+    // Reads the response fully so connection reuse and transfer time are part of the measurement
+    boolean send(Call call) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = httpClient.send(call.request(), HttpResponse.BodyHandlers.ofByteArray());
+        return response.statusCode() < 400;
+    }
+
+    private Call browse(ThreadLocalRandom random) {
+        SeededPlant plant = randomPlant(random);
+        return switch (random.nextInt(6)) {
+            case 0 -> new Call("GET /flora/categories", get("/flora/categories").build());
+            case 1 -> new Call("GET /flora/plants", get("/flora/plants").build());
+            case 2 -> new Call("GET /flora/plants/category/{id}",
+                    get("/flora/plants/category/" + (plant.flower() ? 1 : 2)).build());
+            case 3 -> new Call("GET /flora/flower-meanings", get("/flora/flower-meanings").build());
+            default -> new Call("GET /flora/plants/{id}", get("/flora/plants/" + plant.id()).build());
+        };
+    }
+
+    private Call search(ThreadLocalRandom random) {
+        String term = SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)];
+        String query = random.nextBoolean()
+                ? "categoryId=1&color=" + COLORS[random.nextInt(COLORS.length)] + "&name=" + term
+                : "categoryId=" + (1 + random.nextInt(2)) + "&name=" + term;
+        return new Call("GET /flora/plants/search", get("/flora/plants/search?" + query).build());
+    }
+
+    private Call login(SeededUser user) {
+        String body = json(Map.of("userNameOrEmail", user.username(), "password", Seeder.PASSWORD));
+        return new Call("POST /auth/login", post("/auth/login", body).build());
+    }
+
+    private Call checkout(SeededUser user, ThreadLocalRandom random) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        double total = 0;
+        int lines = 1 + random.nextInt(3);
+        for (int i = 0; i < lines; i++) {
+            SeededPlant plant = randomPlant(random);
+            int quantity = 1 + random.nextInt(2);
+            quantities.merge(plant.id(), quantity, Integer::sum);
+            total += plant.price() * quantity;
+        }
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("plantQuantities", quantities);
+        request.put("totalAmount", total);
+        request.put("customerEmail", user.email());
+        request.put("shippingAddress", "1 Load Test Lane");
+        request.put("customerNotes", "");
+        request.put("fromAccountNumber", user.accountNumber());
+        request.put("paymentUsername", user.bankUsername());
+        request.put("code", user.otp());
+        return new Call("POST /flora/checkout", authorized(user, post("/flora/checkout", json(request))).build());
+    }
+
+    private SeededPlant randomPlant(ThreadLocalRandom random) {
+        return data.plants().get(random.nextInt(data.plants().size()));
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT).GET();
+    }
+
+    private HttpRequest.Builder post(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private HttpRequest.Builder authorized(SeededUser user, HttpRequest.Builder builder) {
+        return builder.header("Authorization", "Bearer " + tokens.get(user.username()));
+    }
+
+    private String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.florawhisperbackend.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.example.florawhisperbackend.FloraWhisperBackendApplication;
+import org.example.florawhisperbackend.loadtest.Seeder.SeedData;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Boots the backend in-process against an in-memory H2 database in MySQL mode, seeds it, drives
+ * the configured traffic mix over loopback HTTP and prints per-endpoint throughput, latency
+ * percentiles and error rates. Needs no network or external database.
+ * <pre>
+ * java -jar target/flora-whisper-loadtest-0.0.1-SNAPSHOT.jar --rate=300 --duration=120 \
+ *     --mix=browse:55,search:20,login:5,checkout:10,history:10
+ * </pre>
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(FloraWhisperBackendApplication.class)
+                .properties(backendProperties(config))
+                .run();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            System.out.printf("Seeding %d plants and %d customers...%n", config.plants(), config.users());
+            SeedData data = Seeder.seed(context, config.plants(), config.users());
+
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(executor)
+                    .build();
+            FloraClient client = new FloraClient(httpClient, port, data);
+            client.loginAll();
+
+            System.out.printf("Running %.0f req/s (%s arrivals) for %ds after %ds warmup, mix %s%n",
+                    config.rate(), config.poisson() ? "poisson" : "constant", config.duration().toSeconds(),
+                    config.warmup().toSeconds(), config.mix());
+            OpenModelDriver driver = new OpenModelDriver(config, client, executor);
+            driver.run();
+            report(config, driver);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static Map<String, Object> backendProperties(LoadTestConfig config) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url",
+                "jdbc:h2:mem:flora-loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.hikari.maximum-pool-size", 20);
+        properties.put("spring.jpa.hibernate.ddl-auto", "create");
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("management.server.port", -1);
+        properties.put("server.tomcat.max-connections", 20_000);
+        // All simulated clients share one address; per-client limits would throttle the whole run
+        properties.put("app.rate-limit.enabled", false);
+        properties.putAll(config.backend());
+        return properties;
+    }
+
+    private static void report(LoadTestConfig config, OpenModelDriver driver) throws IOException {
+        double seconds = config.duration().toMillis() / 1000.0;
+        List<EndpointStats> endpoints = driver.stats().values().stream()
+                .sorted(Comparator.comparing(EndpointStats::endpoint))
+                .toList();
+
+        System.out.printf("%n%-34s %9s %9s %7s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "req/s", "Err%", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        for (EndpointStats endpoint : endpoints) {
+            print(endpoint.endpoint(), endpoint.histogram(), endpoint.errors(), seconds);
+            total.add(endpoint.histogram());
+            totalErrors += endpoint.errors();
+        }
+        print("TOTAL", total, totalErrors, seconds);
+        System.out.printf("Dropped arrivals (client at max-in-flight %d): %d%n", config.maxInFlight(), driver.dropped());
+
+        if (config.outputDir() != null) {
+            Path dir = Files.createDirectories(Path.of(config.outputDir()));
+            for (EndpointStats endpoint : endpoints) {
+                String file = endpoint.endpoint().replaceAll("[^A-Za-z0-9]+", "_") + ".hgrm";
+                try (PrintStream out = new PrintStream(new FileOutputStream(dir.resolve(file).toFile()))) {
+                    endpoint.histogram().outputPercentileDistribution(out, 1000.0);
+                }
+            }
+            System.out.println("Percentile distributions written to " + dir.toAbsolutePath());
+        }
+    }
+
+    private static void print(String name, Histogram histogram, long errors, double seconds) {
+        long count = histogram.getTotalCount();
+        System.out.printf("%-34s %9d %9.1f %7.2f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                name, count, count / seconds, count == 0 ? 0 : errors * 100.0 / count,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.florawhisperbackend.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, passed as {@code --key=value} arguments.
+ *
+ * @param rate        target arrivals per second, independent of how fast responses come back
+ * @param duration    measured run time, after the warmup
+ * @param warmup      run time before measuring starts; requests issued in it are not reported
+ * @param poisson     exponential inter-arrival times when true, a fixed interval otherwise
+ * @param mix         relative weight of each scenario
+ * @param plants      catalog size to seed
+ * @param users       customers (each with a bank account) to seed
+ * @param maxInFlight requests allowed in flight before new arrivals are dropped and counted
+ * @param outputDir   where per-endpoint .hgrm percentile files are written; null for none
+ * @param backend     spring.*, server.* and app.* arguments, passed through to the backend
+ */
+record LoadTestConfig(double rate, Duration duration, Duration warmup, boolean poisson,
+                      Map<Scenario, Integer> mix, int plants, int users, int maxInFlight, String outputDir,
+                      Map<String, Object> backend) {
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        Map<String, Object> backend = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                String key = arg.substring(2, arg.indexOf('='));
+                String value = arg.substring(arg.indexOf('=') + 1);
+                if (key.startsWith("spring.") || key.startsWith("server.") || key.startsWith("app.")) {
+                    backend.put(key, value);
+                } else {
+                    values.put(key, value);
+                }
+            }
+        }
+        return new LoadTestConfig(
+                Double.parseDouble(values.getOrDefault("rate", "200")),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "60"))),
+                Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "15"))),
+                !"constant".equals(values.getOrDefault("arrival", "poisson")),
+                parseMix(values.getOrDefault("mix", "browse:55,search:20,login:5,checkout:10,history:10")),
+                Integer.parseInt(values.getOrDefault("plants", "500")),
+                Integer.parseInt(values.getOrDefault("users", "200")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "5000")),
+                values.get("output-dir"),
+                backend);
+    }
+
+    private static Map<Scenario, Integer> parseMix(String mix) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split(":");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                weights.put(Scenario.valueOf(pair[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Traffic mix has no scenario with a positive weight: " + mix);
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.florawhisperbackend.loadtest;
+
+import org.example.florawhisperbackend.loadtest.FloraClient.Call;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load: arrivals follow the configured rate whether or not earlier requests have
+ * finished, the way real shoppers do. Each arrival runs on its own virtual thread. When the client
+ * side hits maxInFlight, arrivals are dropped and counted rather than delayed.
+ */
+final class OpenModelDriver {
+
+    private final LoadTestConfig config;
+    private final FloraClient client;
+    private final ExecutorService executor;
+    private final NavigableMap<Integer, Scenario> cumulativeMix = new TreeMap<>();
+    private final int totalWeight;
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+
+    OpenModelDriver(LoadTestConfig config, FloraClient client, ExecutorService executor) {
+        this.config = config;
+        this.client = client;
+        this.executor = executor;
+        int sum = 0;
+        for (Map.Entry<Scenario, Integer> entry : config.mix().entrySet()) {
+            sum += entry.getValue();
+            cumulativeMix.put(sum, entry.getKey());
+        }
+        this.totalWeight = sum;
+    }
+
+    Map<String, EndpointStats> stats() {
+        return stats;
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    void run() throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate();
+
+        long next = start;
+        while (next < end) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+                continue;
+            }
+            long scheduled = next;
+            boolean measured = scheduled >= measureFrom;
+            if (inFlight.get() >= config.maxInFlight()) {
+                if (measured) {
+                    dropped.increment();
+                }
+            } else {
+                inFlight.incrementAndGet();
+                executor.execute(() -> execute(scheduled, measured));
+            }
+            next += config.poisson()
+                    ? (long) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) * meanIntervalNanos)
+                    : (long) meanIntervalNanos;
+        }
+        awaitInFlight(TimeUnit.SECONDS.toNanos(60));
+    }
+
+    private void execute(long scheduled, boolean measured) {
+        try {
+            Call call = client.next(pickScenario());
+            boolean ok;
+            try {
+                ok = client.send(call);
+            } catch (Exception e) {
+                ok = false;
+            }
+            if (measured) {
+                stats.computeIfAbsent(call.endpoint(), EndpointStats::new).record(System.nanoTime() - scheduled, !ok);
+            }
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private Scenario pickScenario() {
+        return cumulativeMix.higherEntry(ThreadLocalRandom.current().nextInt(totalWeight)).getValue();
+    }
+
+    private void awaitInFlight(long timeoutNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.florawhisperbackend.loadtest;
+
+// User journeys in the traffic mix; each request is reported under its endpoint
+enum Scenario {
+    BROWSE,
+    SEARCH,
+    LOGIN,
+    CHECKOUT,
+    HISTORY
+}
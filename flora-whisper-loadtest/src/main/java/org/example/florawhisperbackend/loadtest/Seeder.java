@@ -0,0 +1,141 @@
+package org.example.florawhisperbackend.loadtest;
+
+import org.example.florawhisperbackend.dao.CategoryDao;
+import org.example.florawhisperbackend.dao.CustomerDao;
+import org.example.florawhisperbackend.dao.OtpDao;
+import org.example.florawhisperbackend.dao.PaymentAccountDao;
+import org.example.florawhisperbackend.dao.PlantDao;
+import org.example.florawhisperbackend.entity.Category;
+import org.example.florawhisperbackend.entity.Color;
+import org.example.florawhisperbackend.entity.Customer;
+import org.example.florawhisperbackend.entity.Flower;
+import org.example.florawhisperbackend.entity.IndoorPlant;
+import org.example.florawhisperbackend.entity.Otp;
+import org.example.florawhisperbackend.entity.PaymentAccount;
+import org.example.florawhisperbackend.entity.Plant;
+import org.example.florawhisperbackend.entity.Role;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds a synthetic catalog and customers through the application's own repositories. Every
+ * customer gets a funded bank account with a fixed OTP, so checkouts can pay without a login round
+ * trip to the bank.
+ */
+final class Seeder {
+
+    // Checkout pays into this account (see FloraService.processPayment)
+    static final String MERCHANT_ACCOUNT = "ZJOHN161361";
+    static final String PASSWORD = "loadtest-password";
+
+    private static final String[] FLOWERS = {"Rose", "Tulip", "Lily", "Orchid", "Peony", "Daisy", "Sunflower"};
+    private static final String[] GREENERY = {"Monstera", "Fern", "Pothos", "Ficus", "Snake Plant", "Calathea"};
+
+    record SeededPlant(long id, String name, double price, boolean flower) {}
+
+    record SeededUser(String username, String email, String bankUsername, String accountNumber, String otp) {}
+
+    record SeedData(List<SeededPlant> plants, List<SeededUser> users) {}
+
+    private Seeder() {
+    }
+
+    static SeedData seed(ApplicationContext context, int plantCount, int userCount) {
+        TransactionTemplate transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        return transaction.execute(status -> {
+            List<SeededPlant> plants = seedCatalog(context, plantCount);
+            List<SeededUser> users = seedUsers(context, userCount);
+            return new SeedData(plants, users);
+        });
+    }
+
+    private static List<SeededPlant> seedCatalog(ApplicationContext context, int plantCount) {
+        CategoryDao categoryDao = context.getBean(CategoryDao.class);
+        PlantDao plantDao = context.getBean(PlantDao.class);
+        // Ids 1 and 2 are the flower and indoor plant categories the search endpoint expects
+        Category blooms = categoryDao.save(new Category("Blooms"));
+        Category greenery = categoryDao.save(new Category("Greenery"));
+
+        Random random = new Random(7);
+        Color[] colors = Color.values();
+        List<Plant> plants = new ArrayList<>(plantCount);
+        for (int i = 0; i < plantCount; i++) {
+            double price = 5 + random.nextInt(95);
+            if (i % 3 != 2) {
+                Flower flower = new Flower(FLOWERS[i % FLOWERS.length] + " " + i, "Seeded flower " + i,
+                        price, 1_000_000, null, 0, colors[random.nextInt(colors.length)], 1 + random.nextInt(24));
+                flower.setCategory(blooms);
+                plants.add(flower);
+            } else {
+                IndoorPlant indoorPlant = new IndoorPlant();
+                indoorPlant.setName(GREENERY[i % GREENERY.length] + " " + i);
+                indoorPlant.setDescription("Seeded indoor plant " + i);
+                indoorPlant.setPrice(price);
+                indoorPlant.setStock(1_000_000);
+                indoorPlant.setPlantSize(random.nextBoolean() ? "SMALL" : "LARGE");
+                indoorPlant.setIsEasyToCare(random.nextBoolean());
+                indoorPlant.setCareInstructions("Water when the soil is dry.");
+                indoorPlant.setCategory(greenery);
+                plants.add(indoorPlant);
+            }
+        }
+        return plantDao.saveAll(plants).stream()
+                .map(plant -> new SeededPlant(plant.getId(), plant.getName(), plant.getPrice(), plant instanceof Flower))
+                .toList();
+    }
+
+    private static List<SeededUser> seedUsers(ApplicationContext context, int userCount) {
+        CustomerDao customerDao = context.getBean(CustomerDao.class);
+        PaymentAccountDao paymentAccountDao = context.getBean(PaymentAccountDao.class);
+        OtpDao otpDao = context.getBean(OtpDao.class);
+        // One hash for everyone; BCrypt per user would dominate seeding time
+        String passwordHash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+
+        Role customerRole = role("ROLE_CUSTOMER");
+        Role bankRole = role("ROLE_BANKUSER");
+        LocalDate today = LocalDate.now();
+
+        PaymentAccount merchant = new PaymentAccount("merchant", passwordHash, "merchant@loadtest.local",
+                "Flora", "Whisper", null, today, MERCHANT_ACCOUNT, BigDecimal.ZERO);
+        merchant.addRole(bankRole);
+        paymentAccountDao.save(merchant);
+
+        List<SeededUser> users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            Customer customer = new Customer("customer" + i, passwordHash, "customer" + i + "@loadtest.local",
+                    "Customer", String.valueOf(i), null, today);
+            customer.addRole(customerRole);
+            customerDao.save(customer);
+
+            String accountNumber = "ZLOAD" + String.format("%06d", i);
+            PaymentAccount account = new PaymentAccount("bank" + i, passwordHash, "bank" + i + "@loadtest.local",
+                    "Bank", String.valueOf(i), null, today, accountNumber, new BigDecimal("1000000000"));
+            account.addRole(bankRole);
+            paymentAccountDao.save(account);
+
+            Otp otp = new Otp();
+            otp.setUserId(account.getId());
+            otp.setUsername(account.getUsername());
+            otp.setCode(String.valueOf(1000 + i % 9000));
+            otpDao.save(otp);
+
+            users.add(new SeededUser(customer.getUsername(), customer.getEmail(), account.getUsername(),
+                    accountNumber, otp.getCode()));
+        }
+        return users;
+    }
+
+    private static Role role(String name) {
+        Role role = new Role();
+        role.setRoleName(name);
+        return role;
+    }
+}
@@ -11,6 +11,7 @@ import {
 import { isLoggedIn } from "../service/AuthService";
 import { calculateOrderTotal } from "../service/FloraService";
 import { useCart } from "../dto/UseCart";
+import RelatedPlants from "./RelatedPlants";
 
 export default function CartViewPage() {
   const navigate = useNavigate();
@@ -242,6 +243,11 @@ export default function CartViewPage() {
                   </div>
                 ))}
               </div>
+
+              <RelatedPlants
+                plantIds={cartItems.map((item) => item.plant.plantId!)}
+                title="You might also like"
+              />
             </div>
           </div>
 
@@ -1,6 +1,7 @@
 import { useState, useEffect } from "react";
 import {
   getCheckoutHistory,
+  subscribeToOrderStatus,
   type CheckoutResponseDto,
 } from "../service/FloraService";
 import {
@@ -33,6 +34,22 @@ export default function OrderHistory() {
     fetchOrderHistory();
   }, []);
 
+  useEffect(() => {
+    return subscribeToOrderStatus((update) => {
+      setOrders((current) =>
+        current.map((order) =>
+          order.id === update.orderId
+            ? {
+                ...order,
+                shippingStatus: update.shippingStatus,
+                expectedDeliveryDate: update.expectedDeliveryDate ?? order.expectedDeliveryDate,
+              }
+            : order
+        )
+      );
+    });
+  }, []);
+
   const getStatusIcon = (status: string) => {
     switch (status.toUpperCase()) {
       case "DELIVERED":
@@ -18,6 +18,7 @@ import { Fade } from "react-awesome-reveal";
 import { getPlantByIdApiCall } from "../service/FloraService";
 import type { PlantDto } from "../dto/PlantDto";
 import { useCart } from "../dto/UseCart";
+import RelatedPlants from "./RelatedPlants";
 
 export default function PlantDetailsPage() {
   const { id } = useParams<{ id: string }>();
@@ -565,6 +566,8 @@ export default function PlantDetailsPage() {
             </div>
           </Fade>
         </div>
+
+        {plant.plantId && <RelatedPlants plantIds={[plant.plantId]} />}
       </div>
     </div>
   );
@@ -0,0 +1,92 @@
+import { useEffect, useState } from "react";
+import { Link } from "react-router-dom";
+import {
+  getRelatedPlantsApiCall,
+  type RelatedPlantDto,
+} from "../service/FloraService";
+
+interface RelatedPlantsProps {
+  plantIds: number[];
+  title?: string;
+  limit?: number;
+}
+
+// "Frequently bought together" strip; suggestions for several plants are merged by co-purchase count
+export default function RelatedPlants({
+  plantIds,
+  title = "Frequently bought together",
+  limit = 4,
+}: RelatedPlantsProps) {
+  const [related, setRelated] = useState<RelatedPlantDto[]>([]);
+  const idsKey = plantIds.join(",");
+
+  useEffect(() => {
+    let cancelled = false;
+    const ids = idsKey ? idsKey.split(",").map(Number) : [];
+    if (ids.length === 0) {
+      setRelated([]);
+      return;
+    }
+
+    Promise.all(ids.map((id) => getRelatedPlantsApiCall(id)))
+      .then((responses) => {
+        const merged = new Map<number, RelatedPlantDto>();
+        responses.forEach((response) =>
+          response.data.forEach((entry) => {
+            const plantId = entry.plant.plantId!;
+            if (ids.includes(plantId)) return;
+            const existing = merged.get(plantId);
+            merged.set(plantId, {
+              plant: entry.plant,
+              boughtTogether: (existing?.boughtTogether ?? 0) + entry.boughtTogether,
+            });
+          })
+        );
+        if (!cancelled) {
+          setRelated(
+            [...merged.values()]
+              .sort((a, b) => b.boughtTogether - a.boughtTogether)
+              .slice(0, limit)
+          );
+        }
+      })
+      .catch((err) => console.error("Error fetching related plants:", err));
+
+    return () => {
+      cancelled = true;
+    };
+  }, [idsKey, limit]);
+
+  if (related.length === 0) {
+    return null;
+  }
+
+  return (
+    <div className="mt-12">
+      <h2 className="text-2xl font-bold text-emerald-900 mb-6">{title}</h2>
+      <div className="grid grid-cols-2 md:grid-cols-4 gap-6">
+        {related.map(({ plant }) => (
+          <Link
+            key={plant.plantId}
+            to={`/plants/${plant.plantId}`}
+            className="bg-white rounded-2xl p-4 border border-emerald-100 hover:shadow-md transition-all duration-300"
+          >
+            <div className="aspect-square rounded-xl overflow-hidden bg-emerald-50 mb-3">
+              <img
+                src={`data:image/jpeg;base64,${plant.imageUrl}`}
+                alt={plant.name}
+                className="w-full h-full object-cover"
+              />
+            </div>
+            <h3 className="font-semibold text-emerald-900 line-clamp-1">
+              {plant.name}
+            </h3>
+            <p className="text-emerald-700 font-bold">
+              ${plant.price.toFixed(2)}
+            </p>
+          </Link>
+        ))}
+      </div>
+    </div>
+  );
+}
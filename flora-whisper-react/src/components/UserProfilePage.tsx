@@ -15,6 +15,7 @@ import { Fade } from "react-awesome-reveal";
 import {
   getCurrentUserProfile,
   updateUserProfile,
+  resolveAvatarUrl,
   type UserProfileDto,
 } from "../service/UserService";
 import { AxiosError } from "axios";
@@ -30,7 +31,7 @@ export default function UserProfilePage() {
   const [isEditing, setIsEditing] = useState(false);
   const [isChangingPassword, setIsChangingPassword] = useState(false);
   const [editedUser, setEditedUser] = useState<
-    Partial<UserProfileDto & { imgFile?: File }>
+    Partial<UserProfileDto & { imgFile?: File; imgPreview?: string }>
   >({});
 
   const [passwordData, setPasswordData] = useState<PasswordChange>({
@@ -208,7 +209,7 @@ export default function UserProfilePage() {
         setEditedUser((prev) => ({
           ...prev,
           imgFile: file,
-          img: base64Data, // Store Base64 data for preview
+          imgPreview: base64Data, // Store Base64 data for preview
         }));
       };
       reader.readAsDataURL(file);
@@ -273,12 +274,12 @@ export default function UserProfilePage() {
                 <div className="text-center mb-6">
                   <div className="relative inline-block">
                     <div className="w-32 h-32 bg-emerald-100 rounded-full flex items-center justify-center mx-auto mb-4 overflow-hidden border-4 border-emerald-200">
-                      {editedUser.img || user.img ? (
+                      {editedUser.imgPreview || user.avatarUrl ? (
                         <img
                           src={
-                            editedUser.img
-                              ? `data:image/jpeg;base64,${editedUser.img}`
-                              : `data:image/jpeg;base64,${user.img}`
+                            editedUser.imgPreview
+                              ? `data:image/jpeg;base64,${editedUser.imgPreview}`
+                              : resolveAvatarUrl(user.avatarUrl!)
                           }
                           alt="Profile"
                           className="w-full h-full object-cover"
@@ -1,7 +1,7 @@
 import type { CategoryDto } from "../dto/CategoryDto";
 import type { FlowerLanguageDto } from "../dto/FlowerLanguageDto";
 import type { PlantDto } from "../dto/PlantDto";
-import api from "./AuthService";
+import api, { getToken } from "./AuthService";
 
 interface SearchParams {
   categoryId: number;
@@ -112,6 +112,14 @@ export const getAllPlantsByCategoryIdApiCall = (id: number) =>
 export const getPlantByIdApiCall = (id: number) => 
   api.get(`/flora/plants/${id}`);
 
+export interface RelatedPlantDto {
+  plant: PlantDto;
+  boughtTogether: number;
+}
+
+export const getRelatedPlantsApiCall = (id: number, limit = 6) =>
+  api.get<RelatedPlantDto[]>(`/flora/plants/${id}/related`, { params: { limit } });
+
 export const deletePlantApiCall = (id: number) => {
   return api.delete(`/flora/plants/${id}`);
 };
@@ -143,6 +151,71 @@ export const getCheckoutHistory = () => {
   return api.get<CheckoutResponseDto[]>(`/flora/history`);
 };
 
+export interface OrderStatusUpdate {
+  orderId: number;
+  shippingStatus: string;
+  expectedDeliveryDate?: string;
+}
+
+// Listens to /flora/orders/stream and reconnects with Last-Event-ID so missed updates are replayed.
+// EventSource cannot send the Authorization header, so the stream is read with fetch. Returns a
+// function that closes the stream.
+export const subscribeToOrderStatus = (onUpdate: (update: OrderStatusUpdate) => void) => {
+  const controller = new AbortController();
+  let lastEventId: string | undefined;
+
+  const handleFrame = (frame: string) => {
+    let data = "";
+    for (const line of frame.split("\n")) {
+      if (line.startsWith("id:")) {
+        lastEventId = line.slice(3).trim();
+      } else if (line.startsWith("data:")) {
+        data += line.slice(5).trim();
+      }
+    }
+    if (data) {
+      onUpdate(JSON.parse(data) as OrderStatusUpdate);
+    }
+  };
+
+  const connect = async () => {
+    while (!controller.signal.aborted) {
+      try {
+        const headers: Record<string, string> = { Accept: "text/event-stream" };
+        const token = getToken();
+        if (token) headers.Authorization = `Bearer ${token}`;
+        if (lastEventId) headers["Last-Event-ID"] = lastEventId;
+
+        const response = await fetch(`${api.defaults.baseURL}/flora/orders/stream`, {
+          headers,
+          signal: controller.signal,
+        });
+        if (!response.ok || !response.body) throw new Error(`Stream failed: ${response.status}`);
+
+        const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+        let buffer = "";
+        for (;;) {
+          const { value, done } = await reader.read();
+          if (done) break;
+          buffer += value.replace(/\r\n/g, "\n");
+          let boundary: number;
+          while ((boundary = buffer.indexOf("\n\n")) >= 0) {
+            handleFrame(buffer.slice(0, boundary));
+            buffer = buffer.slice(boundary + 2);
+          }
+        }
+      } catch (err) {
+        if (controller.signal.aborted) return;
+        console.log("Order status stream interrupted", err);
+      }
+      await new Promise((resolve) => setTimeout(resolve, 3000));
+    }
+  };
+
+  connect();
+  return () => controller.abort();
+};
+
 export const getAllOrdersApiCall = () => {
   return api.get<CheckoutResponseDto[]>('/flora');
 };
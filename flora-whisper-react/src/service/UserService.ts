@@ -9,9 +9,13 @@ export interface UserProfileDto {
   lastName: string;
   phone: string;
   createdAt: string;
-  img?: File | string;
+  avatarUrl?: string;
 }
 
+// avatarUrl is server-relative; images load from the API host, not the page origin
+export const resolveAvatarUrl = (avatarUrl: string) =>
+  new URL(avatarUrl, api.defaults.baseURL).toString();
+
 // service/UserService.ts
 export const getCurrentUserProfile = () => {
   return api.get<UserProfileDto>("/user/profile");